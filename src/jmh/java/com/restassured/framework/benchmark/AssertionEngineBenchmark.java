@@ -0,0 +1,72 @@
+package com.restassured.framework.benchmark;
+
+import com.restassured.framework.core.AssertionEngine;
+import com.restassured.framework.core.CompiledAssertion;
+import com.restassured.framework.core.ResponseDocument;
+import com.restassured.framework.core.VariableManager;
+import com.restassured.framework.model.Assertion;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response assertions against small and large JSON bodies. A new {@link ResponseDocument} is
+ * created per invocation, so the one-off body parse of a step is part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AssertionEngineBenchmark {
+    @Param({"small", "large"})
+    public String size;
+
+    private AssertionEngine assertionEngine;
+    private Response response;
+    private List<CompiledAssertion> assertions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        assertionEngine = new AssertionEngine(new VariableManager());
+        String body = "large".equals(size) ? Responses.largeJson() : Responses.smallJson();
+        response = new ResponseBuilder()
+            .setStatusCode(200)
+            .setContentType("application/json")
+            .setBody(body)
+            .build();
+
+        assertions = new ArrayList<>();
+        assertions.add(compile("status", "success"));
+        assertions.add(compile("user.email", "john@example.com"));
+        assertions.add(compile("user.address.city", "Springfield"));
+        if ("large".equals(size)) {
+            assertions.add(compile("items[" + (Responses.LARGE_ITEMS - 1) + "].sku", String.format("SKU-%06d", Responses.LARGE_ITEMS - 1)));
+            assertions.add(compile("items.size()", String.valueOf(Responses.LARGE_ITEMS)));
+        }
+    }
+
+    private static CompiledAssertion compile(String path, String expected) {
+        Assertion assertion = new Assertion();
+        assertion.setAssertionId("Assertions_Bench");
+        assertion.setValidationType("responseBody");
+        assertion.setValidationInputType(path);
+        assertion.setExpected(expected);
+        return new CompiledAssertion(assertion);
+    }
+
+    @Benchmark
+    public boolean validateAssertions() {
+        return assertionEngine.validateAssertions(new ResponseDocument(response), assertions);
+    }
+}
@@ -0,0 +1,46 @@
+package com.restassured.framework.benchmark;
+
+import com.restassured.framework.util.CsvToExcelConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvToExcelConverterBenchmark {
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private File csvFile;
+    private File excelFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        csvFile = SuiteFiles.writeCsv(rows);
+        excelFile = File.createTempFile("bench-converted-", ".xlsx");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        csvFile.delete();
+        excelFile.delete();
+    }
+
+    @Benchmark
+    public long convertCsvToExcel() {
+        CsvToExcelConverter.convertCsvToExcel(csvFile.getPath(), excelFile.getPath());
+        return excelFile.length();
+    }
+}
@@ -0,0 +1,45 @@
+package com.restassured.framework.benchmark;
+
+import com.restassured.framework.core.ExcelDataReader;
+import com.restassured.framework.model.TestSuite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of generated CSV and XLSX suites. The snapshot cache is turned off so every
+ * invocation parses the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExcelDataReaderBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Param({"csv", "xlsx"})
+    public String format;
+
+    private File suiteFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        System.setProperty("test.suite.cache.enabled", "false");
+        suiteFile = "xlsx".equals(format) ? SuiteFiles.writeXlsx(rows) : SuiteFiles.writeCsv(rows);
+    }
+
+    @Benchmark
+    public TestSuite readTestSuite() throws IOException {
+        return new ExcelDataReader().readTestSuite(suiteFile);
+    }
+}
@@ -0,0 +1,34 @@
+package com.restassured.framework.benchmark;
+
+import com.restassured.framework.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonUtilBenchmark {
+    @Param({"small", "large"})
+    public String size;
+
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = "large".equals(size) ? Responses.largeJson() : Responses.smallJson();
+    }
+
+    @Benchmark
+    public String extractValue() {
+        return JsonUtil.extractValue(json, "user.address.city");
+    }
+}
@@ -0,0 +1,38 @@
+package com.restassured.framework.benchmark;
+
+/**
+ * Canned JSON bodies. Both carry the same "status" and "user" fields; the large one adds an
+ * array of 5,000 order items (about 1 MB) before them.
+ */
+final class Responses {
+    static final int LARGE_ITEMS = 5000;
+
+    private Responses() {
+    }
+
+    static String smallJson() {
+        return "{\"status\": \"success\", " + user() + "}";
+    }
+
+    static String largeJson() {
+        StringBuilder json = new StringBuilder(1 << 20);
+        json.append("{\"items\": [");
+        for (int i = 0; i < LARGE_ITEMS; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append("{\"id\": ").append(i)
+                .append(", \"sku\": \"SKU-").append(String.format("%06d", i))
+                .append("\", \"description\": \"Generated item used to pad the response to a realistic size\"")
+                .append(", \"price\": ").append(i % 100).append(".99")
+                .append(", \"tags\": [\"bench\", \"generated\", \"item-").append(i).append("\"]}");
+        }
+        json.append("], \"status\": \"success\", ").append(user()).append("}");
+        return json.toString();
+    }
+
+    private static String user() {
+        return "\"user\": {\"id\": 4711, \"email\": \"john@example.com\", "
+            + "\"address\": {\"street\": \"1 Main Street\", \"city\": \"Springfield\"}}";
+    }
+}
@@ -0,0 +1,92 @@
+package com.restassured.framework.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process HTTP server on the loopback interface that answers the endpoints of the generated
+ * suite with canned JSON. Responses are prepared once, so the server adds as little as possible
+ * to the cost being measured.
+ */
+final class StubServer implements AutoCloseable {
+    private static final byte[] CREATED = json("{\"id\": \"order-4242\", \"status\": \"created\", "
+        + "\"order\": {\"items\": [{\"sku\": \"SKU-0042\", \"quantity\": 3}]}}");
+    private static final byte[] ORDER = json("{\"status\": \"success\", \"order\": {\"id\": \"order-4242\", "
+        + "\"customer\": {\"id\": \"user-1\", \"email\": \"john@example.com\"}, "
+        + "\"items\": [{\"sku\": \"SKU-0042\", \"quantity\": 3, \"unitPrice\": 19.99}, "
+        + "{\"sku\": \"SKU-0007\", \"quantity\": 1, \"unitPrice\": 4.99}], \"total\": 64.96}}");
+    private static final byte[] NOT_FOUND = json("{\"status\": \"not found\"}");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private StubServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static StubServer start(int threads) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stub-server-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", StubServer::handle);
+        server.start();
+        return new StubServer(server, executor);
+    }
+
+    String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+
+        int status;
+        byte[] response;
+        if ("POST".equals(method) && path.startsWith("/api/users/") && path.endsWith("/orders")) {
+            status = 201;
+            response = CREATED;
+        } else if ("GET".equals(method) && path.startsWith("/api/orders/")) {
+            status = 200;
+            response = ORDER;
+        } else {
+            status = 404;
+            response = NOT_FOUND;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static byte[] json(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
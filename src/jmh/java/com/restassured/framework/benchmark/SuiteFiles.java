@@ -0,0 +1,78 @@
+package com.restassured.framework.benchmark;
+
+import com.restassured.framework.util.CsvToExcelConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Generates test suites in the layout of the sample CSV, calling the endpoints served by
+ * {@link StubServer}. Each test case contributes six rows (the case, two steps, two assertions
+ * and a test data row), so a suite of {@code rows} rows has rows / 6 cases.
+ */
+final class SuiteFiles {
+    static final int ROWS_PER_CASE = 6;
+
+    private SuiteFiles() {
+    }
+
+    static File writeCsv(int rows) throws IOException {
+        File file = File.createTempFile("bench-suite-" + rows + "-", ".csv");
+        file.deleteOnExit();
+        int cases = Math.max(1, rows / ROWS_PER_CASE);
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            out.println("TestCases: Table 1");
+            out.println("TestCaseID,TestCaseName,Description,Execute,PreRequisite,TestSteps");
+            for (int i = 0; i < cases; i++) {
+                out.printf("TC_%06d,Case %d,Generated benchmark case,Yes,None,\"Step_%06d_1, Step_%06d_2\"%n", i, i, i, i);
+            }
+            out.println();
+
+            out.println("TestSteps: Table 1");
+            out.println("StepID,APIName,Method,Endpoint,Headers,Body,ExtractVars,ExpectedStatus,Assertions,SaveResponse");
+            for (int i = 0; i < cases; i++) {
+                out.printf("Step_%06d_1,CreateOrder,POST,/api/users/{{userId}}/orders,Header_001,Body_001,orderId=id,201,Assertions_%06d_1,No%n", i, i);
+                out.printf("Step_%06d_2,GetOrder,GET,/api/orders/{{orderId}},Header_001,,,200,Assertions_%06d_2,No%n", i, i);
+            }
+            out.println();
+
+            out.println("Assertions: Table 1");
+            out.println("Assertions,Validation_Type,Validation_input_Type,Expected,Actual");
+            for (int i = 0; i < cases; i++) {
+                out.printf("Assertions_%06d_1,responseBody,status,created,%n", i);
+                out.printf("Assertions_%06d_2,responseBody,order.items[0].sku,SKU-0042,%n", i);
+            }
+            out.println();
+
+            out.println("Headers: Table 1");
+            out.println("HeaderID,Key,Value");
+            out.println("Header_001,Content-Type,application/json");
+            out.println("Header_001,X-Request-User,{{userId}}");
+            out.println();
+
+            out.println("Bodies: Table 1");
+            out.println("BodyID,JSONTemplate");
+            out.println("Body_001,\"{\"\"userId\"\": \"\"{{userId}}\"\", \"\"sku\"\": \"\"SKU-0042\"\", \"\"quantity\"\": 3}\"");
+            out.println();
+
+            out.println("TestData: Table 1");
+            out.println("TestCaseID,VarName,Value");
+            for (int i = 0; i < cases; i++) {
+                out.printf("TC_%06d,userId,user-%d%n", i, i);
+            }
+        }
+        return file;
+    }
+
+    static File writeXlsx(int rows) throws IOException {
+        File csv = writeCsv(rows);
+        File xlsx = new File(csv.getPath().replaceAll("\\.csv$", ".xlsx"));
+        xlsx.deleteOnExit();
+        CsvToExcelConverter.convertCsvToExcel(csv.getPath(), xlsx.getPath());
+        return xlsx;
+    }
+}
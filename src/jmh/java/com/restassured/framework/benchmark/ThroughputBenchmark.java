@@ -0,0 +1,389 @@
+package com.restassured.framework.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.restassured.framework.core.AssertionEngine;
+import com.restassured.framework.core.CompiledTestCase;
+import com.restassured.framework.core.ExcelDataReader;
+import com.restassured.framework.core.ExecutionPlan;
+import com.restassured.framework.core.RequestBuilder;
+import com.restassured.framework.core.TestExecutor;
+import com.restassured.framework.core.VariableManager;
+import com.restassured.framework.model.TestStep;
+import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import com.restassured.framework.util.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the framework's throughput ceiling without a backend: a generated suite is run through
+ * {@link TestExecutor} against a {@link StubServer} by a growing number of closed-loop workers.
+ * For each concurrency level it reports requests per second, CPU and allocation per request on the
+ * worker threads, and step latency along with how much of it the framework adds on top of a bare
+ * HTTP round trip. The run fails when throughput at any level falls more than
+ * bench.max.regression.percent below the stored baseline, when any step fails, or when there is no
+ * baseline and bench.allow.missing.baseline is not set. Refresh the baseline with
+ * -Dbench.update.baseline=true.
+ */
+public final class ThroughputBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(ThroughputBenchmark.class);
+    private static final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    private ThroughputBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run() ? 0 : 1);
+        } catch (Exception e) {
+            logger.error("Throughput benchmark failed", e);
+            System.exit(1);
+        }
+    }
+
+    private static boolean run() throws IOException, InterruptedException {
+        List<Integer> levels = parseLevels(ConfigUtil.getProperty("bench.concurrency", "1,2,4,8,16,32"));
+        long warmupNanos = TimeUnit.SECONDS.toNanos(ConfigUtil.getLongProperty("bench.warmup.seconds", 3));
+        long durationNanos = TimeUnit.SECONDS.toNanos(ConfigUtil.getLongProperty("bench.duration.seconds", 10));
+        int cases = ConfigUtil.getIntProperty("bench.cases", 200);
+        int serverThreads = ConfigUtil.getIntProperty("bench.server.threads",
+            Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+        File baselineFile = new File(ConfigUtil.getProperty("bench.baseline.file", "src/jmh/baseline/throughput.json"));
+        double maxRegressionPercent = Double.parseDouble(ConfigUtil.getProperty("bench.max.regression.percent", "15"));
+        File reportDir = new File(ConfigUtil.getProperty("bench.report.dir", "build/reports/throughput"));
+
+        // A generated temp file is never read twice, so there is nothing to cache
+        System.setProperty("test.suite.cache.enabled", "false");
+
+        ObjectNode report;
+        try (StubServer server = StubServer.start(serverThreads)) {
+            System.setProperty("api.base.url", server.getBaseUrl());
+            VariableManager variableManager = new VariableManager();
+            TestExecutor testExecutor = new TestExecutor(variableManager,
+                new RequestBuilder(variableManager), new AssertionEngine(variableManager));
+            TestSuite testSuite = new ExcelDataReader().readTestSuite(SuiteFiles.writeCsv(cases * SuiteFiles.ROWS_PER_CASE));
+            ExecutionPlan plan = testExecutor.prepareTestSuite(testSuite);
+            List<CompiledTestCase> scenarios = new ArrayList<>(plan.getTestCases().values());
+            testExecutor.setStepListener(ThroughputBenchmark::onStepCompleted);
+
+            logger.info("Running {} test case(s) against {} at concurrency {}", scenarios.size(), server.getBaseUrl(), levels);
+            long rawP50Nanos = measureRoundTrip(server.getBaseUrl() + "/api/orders/order-4242",
+                warmupNanos, Math.min(durationNanos, TimeUnit.SECONDS.toNanos(5)));
+
+            List<LevelResult> results = new ArrayList<>();
+            for (int concurrency : levels) {
+                results.add(runLevel(testExecutor, plan, scenarios, concurrency, warmupNanos, durationNanos));
+            }
+            testExecutor.setStepListener(null);
+            report = toJson(results, rawP50Nanos);
+            logTable(results, rawP50Nanos);
+        }
+
+        writeReport(report, reportDir);
+        if (ConfigUtil.getBooleanProperty("bench.update.baseline", false)) {
+            baselineFile.getAbsoluteFile().getParentFile().mkdirs();
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(baselineFile, report);
+            logger.info("Stored the results as the new baseline in {}", baselineFile);
+            return true;
+        }
+        return check(report, baselineFile, maxRegressionPercent);
+    }
+
+    private static List<Integer> parseLevels(String spec) {
+        List<Integer> levels = new ArrayList<>();
+        for (String level : spec.split(",")) {
+            if (!level.trim().isEmpty()) {
+                levels.add(Integer.parseInt(level.trim()));
+            }
+        }
+        return levels;
+    }
+
+    private static void onStepCompleted(TestStep testStep, int statusCode, long startNanos, long endNanos, boolean passed) {
+        Worker worker = currentWorker.get();
+        if (worker != null) {
+            worker.onStep(endNanos - startNanos, passed);
+        }
+    }
+
+    /**
+     * p50 of a plain keep-alive GET to the stub, the floor any client pays on this machine.
+     */
+    private static long measureRoundTrip(String url, long warmupNanos, long durationNanos) throws IOException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long measureStart = System.nanoTime() + warmupNanos;
+        long end = measureStart + durationNanos;
+        byte[] buffer = new byte[8192];
+        for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            try (InputStream body = connection.getInputStream()) {
+                while (body.read(buffer) >= 0) {
+                    // Drain the body so the connection is reused
+                }
+            }
+            if (now >= measureStart) {
+                histogram.record(System.nanoTime() - now);
+            }
+        }
+        return histogram.getValueAtPercentile(50);
+    }
+
+    private static LevelResult runLevel(TestExecutor testExecutor, ExecutionPlan plan, List<CompiledTestCase> scenarios,
+                                        int concurrency, long warmupNanos, long durationNanos) throws InterruptedException {
+        com.sun.management.OperatingSystemMXBean os =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        LatencyHistogram latency = new LatencyHistogram();
+        long measureStart = System.nanoTime() + warmupNanos;
+        long end = measureStart + durationNanos;
+
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(testExecutor, plan, scenarios, i, measureStart, end, latency);
+            Thread thread = new Thread(worker, "bench-worker-" + (i + 1));
+            workers.add(worker);
+            threads.add(thread);
+            thread.start();
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureStart - System.nanoTime()));
+        long processCpuStart = os.getProcessCpuTime();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long processCpu = os.getProcessCpuTime() - processCpuStart;
+
+        LevelResult result = new LevelResult(concurrency, latency, processCpu);
+        long windowStart = Long.MAX_VALUE;
+        long windowEnd = Long.MIN_VALUE;
+        for (Worker worker : workers) {
+            result.requests += worker.requests;
+            result.failures += worker.failures;
+            result.cpuNanos += worker.cpuNanos;
+            result.allocatedBytes += worker.allocatedBytes;
+            windowStart = Math.min(windowStart, worker.windowStart);
+            windowEnd = Math.max(windowEnd, worker.windowEnd);
+        }
+        result.elapsedNanos = Math.max(1, windowEnd - windowStart);
+        logger.info("Concurrency {}: {} requests, {} req/s", concurrency, result.requests,
+            String.format("%.0f", result.requestsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Runs test cases back to back until the end of the level. Requests are counted, and CPU
+     * and allocation sampled, only from the first iteration starting after the warmup.
+     */
+    private static final class Worker implements Runnable {
+        private final TestExecutor testExecutor;
+        private final ExecutionPlan plan;
+        private final List<CompiledTestCase> scenarios;
+        private final int offset;
+        private final long measureStart;
+        private final long end;
+        private final LatencyHistogram latency;
+        private boolean measuring;
+        private long requests;
+        private long failures;
+        private long cpuNanos;
+        private long allocatedBytes;
+        private long windowStart = Long.MAX_VALUE;
+        private long windowEnd = Long.MIN_VALUE;
+
+        private Worker(TestExecutor testExecutor, ExecutionPlan plan, List<CompiledTestCase> scenarios, int offset,
+                       long measureStart, long end, LatencyHistogram latency) {
+            this.testExecutor = testExecutor;
+            this.plan = plan;
+            this.scenarios = scenarios;
+            this.offset = offset;
+            this.measureStart = measureStart;
+            this.end = end;
+            this.latency = latency;
+        }
+
+        @Override
+        public void run() {
+            com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            currentWorker.set(this);
+            long cpuStart = 0;
+            long allocatedStart = 0;
+            int next = offset % scenarios.size();
+            try {
+                for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+                    if (!measuring && now >= measureStart) {
+                        measuring = true;
+                        windowStart = now;
+                        cpuStart = threadBean.getCurrentThreadCpuTime();
+                        allocatedStart = threadBean.getCurrentThreadAllocatedBytes();
+                    }
+                    CompiledTestCase scenario = scenarios.get(next);
+                    next = (next + 1) % scenarios.size();
+                    try {
+                        testExecutor.executeIteration(scenario, plan);
+                    } catch (RuntimeException | AssertionError e) {
+                        logger.debug("Test case {} failed", scenario.getTestCaseId(), e);
+                    }
+                }
+                if (measuring) {
+                    windowEnd = System.nanoTime();
+                    cpuNanos = threadBean.getCurrentThreadCpuTime() - cpuStart;
+                    allocatedBytes = threadBean.getCurrentThreadAllocatedBytes() - allocatedStart;
+                }
+            } finally {
+                currentWorker.remove();
+            }
+        }
+
+        private void onStep(long nanos, boolean passed) {
+            if (!measuring) {
+                return;
+            }
+            requests++;
+            if (!passed) {
+                failures++;
+            }
+            latency.record(nanos);
+        }
+    }
+
+    private static final class LevelResult {
+        private final int concurrency;
+        private final LatencyHistogram latency;
+        private final long processCpuNanos;
+        private long requests;
+        private long failures;
+        private long cpuNanos;
+        private long allocatedBytes;
+        private long elapsedNanos;
+
+        private LevelResult(int concurrency, LatencyHistogram latency, long processCpuNanos) {
+            this.concurrency = concurrency;
+            this.latency = latency;
+            this.processCpuNanos = processCpuNanos;
+        }
+
+        private double requestsPerSecond() {
+            return requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        private double perRequest(long total) {
+            return requests > 0 ? (double) total / requests : 0;
+        }
+    }
+
+    private static ObjectNode toJson(List<LevelResult> results, long rawP50Nanos) {
+        ObjectNode root = new ObjectMapper().createObjectNode();
+        root.put("generatedAt", Instant.now().toString());
+        root.put("javaVersion", System.getProperty("java.version"));
+        root.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        root.put("rawRoundTripMillisP50", LatencyHistogram.toMillis(rawP50Nanos));
+        ArrayNode levels = root.putArray("levels");
+        for (LevelResult result : results) {
+            ObjectNode level = levels.addObject();
+            level.put("concurrency", result.concurrency);
+            level.put("requests", result.requests);
+            level.put("failures", result.failures);
+            level.put("requestsPerSecond", result.requestsPerSecond());
+            level.put("workerCpuMicrosPerRequest", result.perRequest(result.cpuNanos) / 1000.0);
+            level.put("processCpuMicrosPerRequest", result.perRequest(result.processCpuNanos) / 1000.0);
+            level.put("allocatedBytesPerRequest", result.perRequest(result.allocatedBytes));
+            ObjectNode latency = level.putObject("latencyMillis");
+            latency.put("p50", LatencyHistogram.toMillis(result.latency.getValueAtPercentile(50)));
+            latency.put("p99", LatencyHistogram.toMillis(result.latency.getValueAtPercentile(99)));
+            latency.put("max", LatencyHistogram.toMillis(result.latency.getMaxNanos()));
+            level.put("addedLatencyMillisP50",
+                LatencyHistogram.toMillis(Math.max(0, result.latency.getValueAtPercentile(50) - rawP50Nanos)));
+        }
+        return root;
+    }
+
+    private static void logTable(List<LevelResult> results, long rawP50Nanos) {
+        StringBuilder table = new StringBuilder(String.format("%6s %9s %9s %11s %11s %11s %9s %9s %10s%n",
+            "conc", "requests", "req/s", "cpu us/req", "proc us/req", "alloc KB/req", "p50 ms", "p99 ms", "added ms"));
+        for (LevelResult result : results) {
+            table.append(String.format("%6d %9d %9.0f %11.1f %11.1f %11.1f %9.2f %9.2f %10.2f%n",
+                result.concurrency, result.requests, result.requestsPerSecond(),
+                result.perRequest(result.cpuNanos) / 1000.0,
+                result.perRequest(result.processCpuNanos) / 1000.0,
+                result.perRequest(result.allocatedBytes) / 1024.0,
+                LatencyHistogram.toMillis(result.latency.getValueAtPercentile(50)),
+                LatencyHistogram.toMillis(result.latency.getValueAtPercentile(99)),
+                LatencyHistogram.toMillis(Math.max(0, result.latency.getValueAtPercentile(50) - rawP50Nanos))));
+        }
+        logger.info("Throughput (bare round trip p50 {} ms):{}{}",
+            String.format("%.3f", LatencyHistogram.toMillis(rawP50Nanos)), System.lineSeparator(), table);
+    }
+
+    private static void writeReport(ObjectNode report, File reportDir) throws IOException {
+        reportDir.mkdirs();
+        File file = new File(reportDir, "throughput-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".json");
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+        }
+        logger.info("Wrote throughput report to {}", file);
+    }
+
+    private static boolean check(ObjectNode report, File baselineFile, double maxRegressionPercent) throws IOException {
+        boolean passed = true;
+        for (JsonNode level : report.get("levels")) {
+            if (level.get("failures").asLong() > 0) {
+                logger.error("{} step(s) failed at concurrency {}; the results are not comparable",
+                    level.get("failures").asLong(), level.get("concurrency").asInt());
+                passed = false;
+            }
+        }
+        if (!baselineFile.exists()) {
+            if (ConfigUtil.getBooleanProperty("bench.allow.missing.baseline", false)) {
+                logger.warn("No throughput baseline at {}; skipping the regression check", baselineFile);
+                return passed;
+            }
+            logger.error("No throughput baseline at {}; record one with -Dbench.update.baseline=true, "
+                + "or pass -Dbench.allow.missing.baseline=true to skip the regression check", baselineFile);
+            return false;
+        }
+
+        Map<Integer, Double> baseline = new HashMap<>();
+        for (JsonNode level : new ObjectMapper().readTree(baselineFile).path("levels")) {
+            baseline.put(level.get("concurrency").asInt(), level.get("requestsPerSecond").asDouble());
+        }
+        for (JsonNode level : report.get("levels")) {
+            int concurrency = level.get("concurrency").asInt();
+            Double expected = baseline.get(concurrency);
+            if (expected == null) {
+                continue;
+            }
+            double actual = level.get("requestsPerSecond").asDouble();
+            double floor = expected * (1 - maxRegressionPercent / 100);
+            if (actual < floor) {
+                logger.error("Throughput at concurrency {} is {} req/s, more than {}% below the baseline of {} req/s",
+                    concurrency, String.format("%.0f", actual), maxRegressionPercent, String.format("%.0f", expected));
+                passed = false;
+            } else {
+                logger.info("Throughput at concurrency {} is {} req/s (baseline {} req/s)",
+                    concurrency, String.format("%.0f", actual), String.format("%.0f", expected));
+            }
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,49 @@
+package com.restassured.framework;
+
+import com.restassured.framework.core.*;
+import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+
+/**
+ * Drives the test cases listed in load.scenarios at the configured arrival rate and logs the load report.
+ */
+public class LoadTestRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+    
+    public static void main(String[] args) {
+        try {
+            ExcelDataReader excelDataReader = new ExcelDataReader();
+            VariableManager variableManager = new VariableManager();
+            RequestBuilder requestBuilder = new RequestBuilder(variableManager);
+            AssertionEngine assertionEngine = new AssertionEngine(variableManager);
+            TestExecutor testExecutor = new TestExecutor(variableManager, requestBuilder, assertionEngine);
+            
+            String testFile = System.getProperty("test.file", "src/test/resources/sample_test.csv");
+            TestSuite testSuite = excelDataReader.readTestSuite(new File(testFile));
+            
+            LoadReport report;
+            try {
+                report = LoadGenerator.fromConfig(testExecutor)
+                    .run(testSuite, LoadGenerator.parseMix(ConfigUtil.getProperty("load.scenarios")));
+            } finally {
+                // Latency report, traces, saved responses and retry statistics of the run
+                testExecutor.logRunSummary();
+            }
+            
+            long errors = 0;
+            for (LoadReport.Stats stats : report.getScenarios().values()) {
+                errors += stats.getErrors();
+            }
+            if (errors > 0) {
+                logger.warn("{} load scenario iteration(s) failed", errors);
+            }
+        } catch (Exception e) {
+            logger.error("Load run failed", e);
+            System.exit(1);
+        }
+    }
+}
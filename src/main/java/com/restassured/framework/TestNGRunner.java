@@ -1,18 +1,34 @@
 package com.restassured.framework;
 
 import com.restassured.framework.core.*;
+import com.restassured.framework.model.TestCase;
 import com.restassured.framework.model.TestSuite;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Runs every executable test case of the suite as its own TestNG invocation. The suite is loaded
+ * once per class; the data provider is parallel, so cases are spread over TestNG's
+ * data-provider-thread-count threads, each in its own variable scope.
+ */
 public class TestNGRunner {
     private final ExcelDataReader excelDataReader;
     private final VariableManager variableManager;
     private final RequestBuilder requestBuilder;
     private final AssertionEngine assertionEngine;
     private final TestExecutor testExecutor;
-    
+    private TestSuite testSuite;
+
     public TestNGRunner() {
         this.excelDataReader = new ExcelDataReader();
         this.variableManager = new VariableManager();
@@ -20,31 +36,55 @@ public class TestNGRunner {
         this.assertionEngine = new AssertionEngine(variableManager);
         this.testExecutor = new TestExecutor(variableManager, requestBuilder, assertionEngine);
     }
-    
-    @Test
-    public void executeTestSuite() {
-        try {
-            // Get test file path from system property or use default
-            String testFile = System.getProperty("test.file", "test_suite.xlsx");
-            File file = new File(testFile);
-            
-            if (!file.exists()) {
-                throw new RuntimeException("Test file not found: " + testFile);
+
+    @BeforeClass(alwaysRun = true)
+    @Parameters("test.file")
+    public void loadTestSuite(@Optional String suiteTestFile) throws IOException {
+        testSuite = readTestSuite(suiteTestFile);
+        testExecutor.prepareTestSuite(testSuite);
+    }
+
+    private TestSuite readTestSuite(String suiteTestFile) throws IOException {
+        // A system property overrides the suite parameter
+        String testFile = System.getProperty("test.file", suiteTestFile != null ? suiteTestFile : "test_suite.xlsx");
+        File file = new File(testFile);
+
+        if (!file.exists()) {
+            throw new RuntimeException("Test file not found: " + testFile);
+        }
+
+        // Read test suite from Excel/CSV
+        return excelDataReader.readTestSuite(file);
+    }
+
+    @DataProvider(name = "testCases", parallel = true)
+    public Object[][] testCases() {
+        List<Object[]> testCases = new ArrayList<>();
+        for (TestCase testCase : testSuite.getTestCases().values()) {
+            if (testCase.isExecute()) {
+                testCases.add(new Object[]{testCase.getTestCaseId(), testCase.getTestCaseName()});
             }
-            
-            // Read test suite from Excel/CSV
-            TestSuite testSuite = excelDataReader.readTestSuite(file);
-            
-            // Execute test suite
-            testExecutor.executeTestSuite(testSuite);
-            
-        } catch (Exception e) {
-            throw new RuntimeException("Test execution failed", e);
         }
+        return testCases.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "testCases")
+    public void executeTestCase(String testCaseId, String testCaseName) {
+        try {
+            testExecutor.executeTestCase(testSuite.getTestCases().get(testCaseId), testSuite);
+        } catch (PrerequisiteFailedException e) {
+            throw new SkipException(e.getMessage(), e);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void logRunSummary() {
+        testExecutor.logRunSummary();
     }
-    
-    public static void main(String[] args) {
+
+    public static void main(String[] args) throws IOException {
         TestNGRunner runner = new TestNGRunner();
-        runner.executeTestSuite();
+        TestSuite testSuite = runner.readTestSuite(null);
+        runner.testExecutor.executeTestSuite(testSuite);
     }
-} 
\ No newline at end of file
+}
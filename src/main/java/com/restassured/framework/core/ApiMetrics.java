@@ -0,0 +1,233 @@
+package com.restassured.framework.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.restassured.framework.util.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request latency per API name, HTTP method and status class. Each combination has its own
+ * {@link LatencyHistogram}; once an API has been seen, recording looks up an existing entry and
+ * increments counters without allocating. Every attempt is recorded as a request; retries are
+ * also counted on their own, per API and method.
+ */
+public class ApiMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(ApiMetrics.class);
+    private static final String[] STATUS_CLASSES = {"error", "1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final AtomicLong firstNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastNanos = new AtomicLong(Long.MIN_VALUE);
+
+    private static class Endpoint {
+        private final String apiName;
+        private final String method;
+        private final LatencyHistogram[] byStatusClass = new LatencyHistogram[STATUS_CLASSES.length];
+        private final LongAdder retries = new LongAdder();
+
+        private Endpoint(String apiName, String method) {
+            this.apiName = apiName;
+            this.method = method;
+            for (int i = 0; i < byStatusClass.length; i++) {
+                byStatusClass[i] = new LatencyHistogram();
+            }
+        }
+    }
+
+    /**
+     * Records one request of the step. A status code of -1 means no response was received.
+     */
+    public void record(CompiledStep step, int statusCode, long startNanos, long endNanos) {
+        Endpoint endpoint = endpoint(step);
+        endpoint.byStatusClass[statusClassOf(statusCode)].record(endNanos - startNanos);
+        updateMin(firstNanos, startNanos);
+        updateMax(lastNanos, endNanos);
+    }
+
+    /**
+     * Counts a failed attempt of the step that is going to be retried.
+     */
+    public void recordRetry(CompiledStep step) {
+        endpoint(step).retries.increment();
+    }
+
+    private Endpoint endpoint(CompiledStep step) {
+        Endpoint endpoint = endpoints.get(step.getMetricsKey());
+        if (endpoint == null) {
+            // An unresolved step has no method; it never sends a request, but is keyed safely anyway
+            String method = step.getMethod() != null ? step.getMethod().name() : "UNRESOLVED";
+            endpoint = endpoints.computeIfAbsent(step.getMetricsKey(),
+                k -> new Endpoint(step.getTestStep().getApiName(), method));
+        }
+        return endpoint;
+    }
+
+    private static int statusClassOf(int statusCode) {
+        int statusClass = statusCode / 100;
+        return statusClass >= 1 && statusClass <= 5 ? statusClass : 0;
+    }
+
+    private static void updateMin(AtomicLong target, long value) {
+        long current = target.get();
+        while (value < current && !target.compareAndSet(current, value)) {
+            current = target.get();
+        }
+    }
+
+    private static void updateMax(AtomicLong target, long value) {
+        long current = target.get();
+        while (value > current && !target.compareAndSet(current, value)) {
+            current = target.get();
+        }
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    /**
+     * Seconds between the first request starting and the last one finishing.
+     */
+    public double getElapsedSeconds() {
+        long first = firstNanos.get();
+        long last = lastNanos.get();
+        return last > first ? (last - first) / 1_000_000_000.0 : 0;
+    }
+
+    private List<Row> rows() {
+        double elapsed = getElapsedSeconds();
+        List<Row> rows = new ArrayList<>();
+        for (Endpoint endpoint : endpoints.values()) {
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                LatencyHistogram histogram = endpoint.byStatusClass[i];
+                if (histogram.getCount() > 0) {
+                    rows.add(new Row(endpoint, STATUS_CLASSES[i], histogram, elapsed));
+                }
+            }
+        }
+        rows.sort(Comparator.comparing((Row row) -> row.endpoint.apiName)
+            .thenComparing(row -> row.endpoint.method)
+            .thenComparing(row -> row.statusClass));
+        return rows;
+    }
+
+    private List<Endpoint> retriedEndpoints() {
+        List<Endpoint> retried = new ArrayList<>();
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.retries.sum() > 0) {
+                retried.add(endpoint);
+            }
+        }
+        retried.sort(Comparator.comparing((Endpoint endpoint) -> endpoint.apiName).thenComparing(endpoint -> endpoint.method));
+        return retried;
+    }
+
+    private static class Row {
+        private final Endpoint endpoint;
+        private final String statusClass;
+        private final LatencyHistogram histogram;
+        private final double throughput;
+
+        private Row(Endpoint endpoint, String statusClass, LatencyHistogram histogram, double elapsedSeconds) {
+            this.endpoint = endpoint;
+            this.statusClass = statusClass;
+            this.histogram = histogram;
+            this.throughput = elapsedSeconds > 0 ? histogram.getCount() / elapsedSeconds : 0;
+        }
+    }
+
+    public String toJson() {
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode root = mapper.createObjectNode();
+        root.put("generatedAt", Instant.now().toString());
+        root.put("elapsedSeconds", getElapsedSeconds());
+        ArrayNode apis = root.putArray("apis");
+        for (Row row : rows()) {
+            ObjectNode api = apis.addObject();
+            api.put("apiName", row.endpoint.apiName);
+            api.put("method", row.endpoint.method);
+            api.put("statusClass", row.statusClass);
+            api.put("count", row.histogram.getCount());
+            api.put("throughputPerSecond", row.throughput);
+            ObjectNode latency = api.putObject("latencyMillis");
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + formatPercentile(percentile), LatencyHistogram.toMillis(row.histogram.getValueAtPercentile(percentile)));
+            }
+            latency.put("max", LatencyHistogram.toMillis(row.histogram.getMaxNanos()));
+            latency.put("mean", LatencyHistogram.toMillis((long) row.histogram.getMeanNanos()));
+        }
+        ArrayNode retries = root.putArray("retries");
+        for (Endpoint endpoint : retriedEndpoints()) {
+            ObjectNode retry = retries.addObject();
+            retry.put("apiName", endpoint.apiName);
+            retry.put("method", endpoint.method);
+            retry.put("count", endpoint.retries.sum());
+        }
+        try {
+            return mapper.writeValueAsString(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize API metrics", e);
+        }
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-30s %-7s %-6s %8s %9s %9s %9s %9s %9s %9s%n",
+            "API", "Method", "Status", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Row row : rows()) {
+            LatencyHistogram histogram = row.histogram;
+            table.append(String.format("%-30s %-7s %-6s %8d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                row.endpoint.apiName, row.endpoint.method, row.statusClass, histogram.getCount(), row.throughput,
+                LatencyHistogram.toMillis(histogram.getValueAtPercentile(50)),
+                LatencyHistogram.toMillis(histogram.getValueAtPercentile(90)),
+                LatencyHistogram.toMillis(histogram.getValueAtPercentile(99)),
+                LatencyHistogram.toMillis(histogram.getValueAtPercentile(99.9)),
+                LatencyHistogram.toMillis(histogram.getMaxNanos())));
+        }
+        for (Endpoint endpoint : retriedEndpoints()) {
+            table.append(String.format("%-30s %-7s retried %d time(s)%n", endpoint.apiName, endpoint.method, endpoint.retries.sum()));
+        }
+        return table.toString();
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+            ? String.valueOf((long) percentile)
+            : String.valueOf(percentile).replace('.', '_');
+    }
+
+    /**
+     * Logs the table and writes api-latency.json and api-latency.txt to the report directory.
+     */
+    public void report(File reportDir) {
+        if (isEmpty()) {
+            return;
+        }
+        String table = toTable();
+        logger.info("API latency over {} s:{}{}", String.format("%.1f", getElapsedSeconds()), System.lineSeparator(), table);
+        try {
+            Files.createDirectories(reportDir.toPath());
+            Files.write(new File(reportDir, "api-latency.json").toPath(), toJson().getBytes(StandardCharsets.UTF_8));
+            Files.write(new File(reportDir, "api-latency.txt").toPath(), table.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Could not write API latency report to {}", reportDir, e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.restassured.framework.core;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A response saved by a SaveResponse step, as written to and read back from the {@link ResponseArchive}.
+ */
+public final class ArchivedResponse {
+    private final String testCaseId;
+    private final String stepId;
+    private final int statusCode;
+    private final long startedAtMillis;
+    private final long durationNanos;
+    private final String headers;
+    private final byte[] body;
+
+    public ArchivedResponse(String testCaseId, String stepId, int statusCode, long startedAtMillis,
+                            long durationNanos, String headers, byte[] body) {
+        this.testCaseId = testCaseId != null ? testCaseId : "";
+        this.stepId = stepId;
+        this.statusCode = statusCode;
+        this.startedAtMillis = startedAtMillis;
+        this.durationNanos = durationNanos;
+        this.headers = headers != null ? headers : "";
+        this.body = body != null ? body : new byte[0];
+    }
+
+    public String getTestCaseId() {
+        return testCaseId;
+    }
+
+    public String getStepId() {
+        return stepId;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Wall-clock time the request was started, in epoch milliseconds.
+     */
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    /**
+     * Time from building the request to receiving the response.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Response headers, one "Name: value" per line.
+     */
+    public String getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getBodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
@@ -1,14 +1,14 @@
 package com.restassured.framework.core;
 
 import com.restassured.framework.model.Assertion;
+import com.restassured.framework.util.ConnectionPool;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -27,85 +27,121 @@ public class AssertionEngine {
             return true;
         }
         
-        boolean allPassed = true;
+        List<CompiledAssertion> compiled = new ArrayList<>(assertions.size());
         for (Assertion assertion : assertions) {
-            boolean passed = validateAssertion(response, assertion);
+            compiled.add(new CompiledAssertion(assertion));
+        }
+        return validateAssertions(new ResponseDocument(response), compiled);
+    }
+    
+    public boolean validateAssertions(ResponseDocument document, List<CompiledAssertion> assertions) {
+        try (PhaseTracer.Span span = PhaseTracer.getInstance().start("assert")) {
+            boolean allPassed = validateEach(document, assertions);
+            if (!allPassed) {
+                span.setFailed();
+            }
+            return allPassed;
+        }
+    }
+    
+    private boolean validateEach(ResponseDocument document, List<CompiledAssertion> assertions) {
+        boolean allPassed = true;
+        for (CompiledAssertion compiled : assertions) {
+            FrameworkEvents.AssertionEvent event = new FrameworkEvents.AssertionEvent();
+            event.begin();
+            
+            // The actual value is kept local: assertion rows are shared by every execution of the step
+            String actualValue = evaluateAssertion(document, compiled);
+            Assertion assertion = compiled.getAssertion();
+            boolean passed = actualValue != null && actualValue.equals(assertion.getExpected());
+            
+            event.end();
+            if (event.shouldCommit()) {
+                event.testCaseId = variableManager.getCurrentScope().getTestCaseId();
+                event.assertionId = assertion.getAssertionId();
+                event.validationType = assertion.getValidationType();
+                event.passed = passed;
+                event.commit();
+            }
             if (!passed) {
                 allPassed = false;
                 logger.error("Assertion failed: {} - Expected: {}, Actual: {}", 
                     assertion.getValidationType(), 
                     assertion.getExpected(), 
-                    assertion.getActual());
+                    actualValue);
             }
         }
         
         return allPassed;
     }
     
-    private boolean validateAssertion(Response response, Assertion assertion) {
-        switch (assertion.getValidationType().toLowerCase()) {
-            case "database":
-                return validateDatabaseAssertion(assertion);
-            case "responsebody":
-                return validateResponseBodyAssertion(response, assertion);
-            case "responsemetatype":
-                return validateResponseMetaTypeAssertion(response, assertion);
-            case "kibana":
-                return validateKibanaAssertion(assertion);
+    private String evaluateAssertion(ResponseDocument document, CompiledAssertion compiled) {
+        Assertion assertion = compiled.getAssertion();
+        switch (compiled.getKind()) {
+            case DATABASE:
+                return evaluateDatabaseAssertion(compiled);
+            case RESPONSE_BODY:
+                return evaluateResponseBodyAssertion(document, compiled);
+            case RESPONSE_META_TYPE:
+                return evaluateResponseMetaTypeAssertion(document, compiled);
+            case KIBANA:
+                return evaluateKibanaAssertion(assertion);
             default:
                 logger.warn("Unknown assertion type: {}", assertion.getValidationType());
-                return false;
+                return null;
         }
     }
     
-    private boolean validateDatabaseAssertion(Assertion assertion) {
-        try {
-            String dbUrl = System.getProperty("db.url");
-            String dbUser = System.getProperty("db.user");
-            String dbPassword = System.getProperty("db.password");
+    private String evaluateDatabaseAssertion(CompiledAssertion compiled) {
+        SqlTemplate query = compiled.getQuery();
+        if (query == null) {
+            logger.error("Database assertion {} has no query", compiled.getAssertion().getAssertionId());
+            return null;
+        }
+        ConnectionPool pool = ConnectionPool.getDefault();
+        try (PhaseTracer.Span span = PhaseTracer.getInstance().start("db-query");
+             ConnectionPool.PooledConnection conn = pool.borrow()) {
+            PreparedStatement stmt = conn.prepare(query.getSql());
+            List<Template> parameters = query.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                stmt.setString(i + 1, variableManager.render(parameters.get(i)));
+            }
             
-            try (Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword);
-                 Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(assertion.getValidationInputType())) {
-                
+            long start = System.nanoTime();
+            try (ResultSet rs = stmt.executeQuery()) {
+                pool.recordQuery(System.nanoTime() - start);
                 if (rs.next()) {
-                    String actualValue = rs.getString(1);
-                    assertion.setActual(actualValue);
-                    return actualValue.equals(assertion.getExpected());
+                    return rs.getString(1);
                 }
             }
         } catch (Exception e) {
             logger.error("Database assertion failed", e);
         }
-        return false;
+        return null;
     }
     
-    private boolean validateResponseBodyAssertion(Response response, Assertion assertion) {
+    private String evaluateResponseBodyAssertion(ResponseDocument document, CompiledAssertion compiled) {
         try {
-            String actualValue = response.jsonPath().getString(assertion.getValidationInputType());
-            assertion.setActual(actualValue);
-            return actualValue.equals(assertion.getExpected());
+            return document.getString(compiled.getPath());
         } catch (Exception e) {
             logger.error("Response body assertion failed", e);
-            return false;
+            return null;
         }
     }
     
-    private boolean validateResponseMetaTypeAssertion(Response response, Assertion assertion) {
+    private String evaluateResponseMetaTypeAssertion(ResponseDocument document, CompiledAssertion compiled) {
         try {
-            String actualValue = response.jsonPath().getString(assertion.getValidationInputType());
-            assertion.setActual(actualValue);
-            return actualValue.equals(assertion.getExpected());
+            return document.getString(compiled.getPath());
         } catch (Exception e) {
             logger.error("Response meta type assertion failed", e);
-            return false;
+            return null;
         }
     }
     
-    private boolean validateKibanaAssertion(Assertion assertion) {
+    private String evaluateKibanaAssertion(Assertion assertion) {
         // Implementation for Kibana log validation would go here
         // This would typically involve querying Kibana's API
         logger.warn("Kibana assertion validation not implemented");
-        return false;
+        return null;
     }
-} 
\ No newline at end of file
+}
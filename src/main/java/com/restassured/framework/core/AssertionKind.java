@@ -0,0 +1,30 @@
+package com.restassured.framework.core;
+
+/**
+ * Assertion types understood by {@link AssertionEngine}, parsed from the Validation_Type column.
+ */
+public enum AssertionKind {
+    DATABASE,
+    RESPONSE_BODY,
+    RESPONSE_META_TYPE,
+    KIBANA,
+    UNKNOWN;
+
+    public static AssertionKind of(String validationType) {
+        if (validationType == null) {
+            return UNKNOWN;
+        }
+        switch (validationType.trim().toLowerCase()) {
+            case "database":
+                return DATABASE;
+            case "responsebody":
+                return RESPONSE_BODY;
+            case "responsemetatype":
+                return RESPONSE_META_TYPE;
+            case "kibana":
+                return KIBANA;
+            default:
+                return UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.Assertion;
+
+/**
+ * An assertion row with its validation type resolved and, for response assertions, its JSON path compiled.
+ * Database assertions carry their query as a parameterized {@link SqlTemplate}.
+ */
+public final class CompiledAssertion {
+    private final Assertion assertion;
+    private final AssertionKind kind;
+    private final JsonPathExpression path;
+    private final SqlTemplate query;
+
+    public CompiledAssertion(Assertion assertion) {
+        this.assertion = assertion;
+        this.kind = AssertionKind.of(assertion.getValidationType());
+        this.path = kind == AssertionKind.RESPONSE_BODY || kind == AssertionKind.RESPONSE_META_TYPE
+            ? JsonPathExpression.compile(assertion.getValidationInputType())
+            : null;
+        this.query = kind == AssertionKind.DATABASE && assertion.getValidationInputType() != null
+            ? SqlTemplate.compile(assertion.getValidationInputType())
+            : null;
+    }
+
+    public Assertion getAssertion() {
+        return assertion;
+    }
+
+    public AssertionKind getKind() {
+        return kind;
+    }
+
+    /**
+     * The compiled JSON path of a response assertion, or null for other kinds.
+     */
+    public JsonPathExpression getPath() {
+        return path;
+    }
+
+    /**
+     * The compiled query of a database assertion, or null for other kinds.
+     */
+    public SqlTemplate getQuery() {
+        return query;
+    }
+}
@@ -0,0 +1,134 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.TestStep;
+import io.restassured.http.Method;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A test step with its method, templates, header group, body, extractions and assertions
+ * resolved, so executing it needs no further lookups or parsing.
+ */
+public final class CompiledStep {
+    private final TestStep testStep;
+    private final Method method;
+    private final Template endpoint;
+    private final List<Map.Entry<String, Template>> headers;
+    private final Template body;
+    private final List<ExtractSpec> extractSpecs;
+    private final List<CompiledAssertion> assertions;
+    private final List<JsonPathExpression> responsePaths;
+    private final String metricsKey;
+    private final String problem;
+
+    CompiledStep(TestStep testStep, Method method, Template endpoint, List<Map.Entry<String, Template>> headers,
+                 Template body, List<ExtractSpec> extractSpecs, List<CompiledAssertion> assertions) {
+        this.testStep = testStep;
+        this.method = method;
+        this.endpoint = endpoint;
+        this.headers = headers;
+        this.body = body;
+        this.extractSpecs = extractSpecs;
+        this.assertions = assertions;
+        this.responsePaths = collectResponsePaths(extractSpecs, assertions);
+        this.metricsKey = testStep.getApiName() + " " + method.name();
+        this.problem = null;
+    }
+
+    private CompiledStep(TestStep testStep, String problem) {
+        this.testStep = testStep;
+        this.method = null;
+        this.endpoint = Template.compile("");
+        this.headers = Collections.emptyList();
+        this.body = null;
+        this.extractSpecs = Collections.emptyList();
+        this.assertions = Collections.emptyList();
+        this.responsePaths = Collections.emptyList();
+        this.metricsKey = "UNRESOLVED " + testStep.getStepId();
+        this.problem = problem;
+    }
+
+    /**
+     * A step that could not be compiled. It stays in its test case and fails it when reached,
+     * so a case never passes without one of its steps.
+     */
+    static CompiledStep unresolved(TestStep testStep, String problem) {
+        return new CompiledStep(testStep, problem);
+    }
+
+    private static List<JsonPathExpression> collectResponsePaths(List<ExtractSpec> extractSpecs,
+                                                               List<CompiledAssertion> assertions) {
+        List<JsonPathExpression> paths = new ArrayList<>();
+        for (ExtractSpec spec : extractSpecs) {
+            paths.add(spec.getPath());
+        }
+        for (CompiledAssertion assertion : assertions) {
+            if (assertion.getPath() != null) {
+                paths.add(assertion.getPath());
+            }
+        }
+        return Collections.unmodifiableList(paths);
+    }
+
+    /**
+     * Why the step cannot run, or null if it compiled.
+     */
+    public String getProblem() {
+        return problem;
+    }
+
+    public TestStep getTestStep() {
+        return testStep;
+    }
+
+    public String getStepId() {
+        return testStep.getStepId();
+    }
+
+    /**
+     * API name and method, precomputed so latency recording does not build keys per request.
+     */
+    String getMetricsKey() {
+        return metricsKey;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Template getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Header name and value template pairs, in sheet order.
+     */
+    public List<Map.Entry<String, Template>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * The body template, or null if the step sends no body.
+     */
+    public Template getBody() {
+        return body;
+    }
+
+    public List<ExtractSpec> getExtractSpecs() {
+        return extractSpecs;
+    }
+
+    public List<CompiledAssertion> getAssertions() {
+        return assertions;
+    }
+
+    /**
+     * Every JSON path the step reads from its response, for extractions and assertions.
+     */
+    public List<JsonPathExpression> getResponsePaths() {
+        return responsePaths;
+    }
+}
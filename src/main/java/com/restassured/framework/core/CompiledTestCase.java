@@ -0,0 +1,42 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.TestCase;
+
+import java.util.List;
+
+/**
+ * A test case with its steps and prerequisite resolved to compiled references.
+ */
+public final class CompiledTestCase {
+    private final TestCase testCase;
+    private final List<CompiledStep> steps;
+    private CompiledTestCase prerequisite;
+
+    CompiledTestCase(TestCase testCase, List<CompiledStep> steps) {
+        this.testCase = testCase;
+        this.steps = steps;
+    }
+
+    void setPrerequisite(CompiledTestCase prerequisite) {
+        this.prerequisite = prerequisite;
+    }
+
+    public TestCase getTestCase() {
+        return testCase;
+    }
+
+    public String getTestCaseId() {
+        return testCase.getTestCaseId();
+    }
+
+    public List<CompiledStep> getSteps() {
+        return steps;
+    }
+
+    /**
+     * The prerequisite test case, or null if there is none.
+     */
+    public CompiledTestCase getPrerequisite() {
+        return prerequisite;
+    }
+}
@@ -0,0 +1,319 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.DbSeed;
+import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import com.restassured.framework.util.DatabaseUtil;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Loads the suite's DbSeed rows into the configured database before any test case runs.
+ * Each row names a table, the columns it fills and their values, both comma-separated and quoted
+ * like CSV fields elsewhere in the suite; an empty value is inserted as NULL.
+ * DependsOn lists tables that must be loaded first, such as the targets of foreign keys.
+ * <p>
+ * By default everything is loaded in a single transaction, so a failed seed leaves nothing behind.
+ * With more than one seed thread (db.seed.threads), each table is loaded in its own transaction as
+ * soon as the tables it depends on have committed, so independent tables load in parallel, but a
+ * failure leaves the tables committed before it in place.
+ */
+public class DatabaseSeeder {
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseSeeder.class);
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*)?");
+    private static final CSVFormat CELL_FORMAT = CSVFormat.DEFAULT.builder()
+        .setIgnoreSurroundingSpaces(true)
+        .build();
+    // The pooled database outlives a run, so the same rows must not be inserted twice in one JVM.
+    // Keyed by content: every read of a suite file yields a new TestSuite instance.
+    private static final Set<String> seeded = new HashSet<>();
+
+    private final int threads;
+
+    public DatabaseSeeder() {
+        this(ConfigUtil.getIntProperty("db.seed.threads", 1));
+    }
+
+    public DatabaseSeeder(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Seeds every DbSeed table of the suite, unless the same rows have already been seeded
+     * successfully into the same database.
+     * Throws {@link IllegalStateException} if the dependencies are cyclic or a table fails to load.
+     */
+    public void seed(TestSuite testSuite) {
+        Map<String, List<DbSeed>> seeds = testSuite.getDbSeeds();
+        if (seeds == null || seeds.isEmpty()) {
+            return;
+        }
+
+        String fingerprint = fingerprint(seeds);
+        synchronized (seeded) {
+            if (seeded.contains(fingerprint)) {
+                logger.info("DbSeed tables of this suite are already loaded, not seeding again");
+                return;
+            }
+            load(seeds);
+            seeded.add(fingerprint);
+        }
+    }
+
+    /**
+     * SHA-256 of the target database URL and every seed row.
+     */
+    private static String fingerprint(Map<String, List<DbSeed>> seeds) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, ConfigUtil.getProperty("db.url"));
+            // Tables sorted: a parsed and a cached suite may hold them in different map orders
+            for (Map.Entry<String, List<DbSeed>> entry : new TreeMap<>(seeds).entrySet()) {
+                update(digest, entry.getKey());
+                for (DbSeed row : entry.getValue()) {
+                    update(digest, row.getDependsOn());
+                    update(digest, row.getColumns());
+                    update(digest, row.getValues());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        // Length-prefixed, so adjacent values cannot run into each other
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        digest.update(ByteBuffer.allocate(5).putInt(bytes.length).put((byte) (value != null ? 1 : 0)).array());
+        digest.update(bytes);
+    }
+
+    private void load(Map<String, List<DbSeed>> seeds) {
+        Map<String, Set<String>> dependencies = dependencies(seeds);
+        List<String> order = loadOrder(dependencies);
+        AtomicLong totalRows = new AtomicLong();
+        long start = System.nanoTime();
+
+        if (threads == 1 || order.size() == 1) {
+            try {
+                DatabaseUtil.inTransaction(() -> {
+                    for (String table : order) {
+                        totalRows.addAndGet(loadTable(table, seeds.get(table)));
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException("Database seeding failed; nothing was loaded", e);
+            }
+        } else {
+            loadInParallel(order, dependencies, seeds, totalRows);
+        }
+
+        logRate("Seeded " + order.size() + " table(s)", totalRows.get(), System.nanoTime() - start);
+    }
+
+    private void loadInParallel(List<String> order, Map<String, Set<String>> dependencies,
+                                Map<String, List<DbSeed>> seeds, AtomicLong totalRows) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, order.size()), runnable -> {
+            Thread thread = new Thread(runnable, "db-seed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Map<String, CompletableFuture<Void>> loaded = new HashMap<>();
+        try {
+            // Load order is topological, so every dependency already has a future
+            for (String table : order) {
+                CompletableFuture<?>[] prerequisites = dependencies.get(table).stream()
+                    .map(loaded::get)
+                    .toArray(CompletableFuture[]::new);
+                loaded.put(table, CompletableFuture.allOf(prerequisites).thenRunAsync(() -> {
+                    try {
+                        totalRows.addAndGet(DatabaseUtil.inTransaction(() -> loadTable(table, seeds.get(table))));
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, pool));
+            }
+            CompletableFuture.allOf(loaded.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            List<String> failed = new ArrayList<>();
+            for (Map.Entry<String, CompletableFuture<Void>> entry : loaded.entrySet()) {
+                if (entry.getValue().isCompletedExceptionally()) {
+                    failed.add(entry.getKey());
+                }
+            }
+            throw new IllegalStateException("Database seeding failed for table(s) " + failed, e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long loadTable(String table, List<DbSeed> rows) throws SQLException {
+        requireIdentifier(table);
+        long start = System.nanoTime();
+        long loaded = 0;
+
+        // Consecutive rows with the same column list share one batched insert
+        int from = 0;
+        while (from < rows.size()) {
+            String columns = rows.get(from).getColumns();
+            if (columns == null) {
+                throw new SQLException("DbSeed row for " + table + " has no columns");
+            }
+            int to = from + 1;
+            while (to < rows.size() && columns.equals(rows.get(to).getColumns())) {
+                to++;
+            }
+            List<String> columnNames = split(columns);
+            for (String column : columnNames) {
+                requireIdentifier(column);
+            }
+
+            List<Object[]> parameters = new ArrayList<>(to - from);
+            for (DbSeed row : rows.subList(from, to)) {
+                List<String> values = split(row.getValues());
+                if (values.size() != columnNames.size()) {
+                    throw new SQLException("DbSeed row for " + table + " has " + values.size()
+                        + " value(s) for " + columnNames.size() + " column(s): " + row.getValues());
+                }
+                Object[] params = new Object[values.size()];
+                for (int i = 0; i < params.length; i++) {
+                    String value = values.get(i);
+                    params[i] = value.isEmpty() ? null : value;
+                }
+                parameters.add(params);
+            }
+
+            String sql = "INSERT INTO " + table + " (" + String.join(", ", columnNames) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columnNames.size(), "?")) + ")";
+            long affected = DatabaseUtil.executeBatch(sql, parameters);
+            if (affected < 0) {
+                throw new SQLException("Batch insert into " + table + " failed");
+            }
+            loaded += affected;
+            from = to;
+        }
+
+        logRate("Seeded " + table, loaded, System.nanoTime() - start);
+        return loaded;
+    }
+
+    private Map<String, Set<String>> dependencies(Map<String, List<DbSeed>> seeds) {
+        Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+        for (Map.Entry<String, List<DbSeed>> entry : seeds.entrySet()) {
+            Set<String> tableDependencies = new LinkedHashSet<>();
+            for (DbSeed row : entry.getValue()) {
+                for (String dependency : split(row.getDependsOn())) {
+                    if (dependency.equals(entry.getKey()) || dependency.equalsIgnoreCase("None")) {
+                        continue;
+                    }
+                    if (!seeds.containsKey(dependency)) {
+                        logger.warn("DbSeed table {} depends on {}, which is not seeded; ignoring", entry.getKey(), dependency);
+                        continue;
+                    }
+                    tableDependencies.add(dependency);
+                }
+            }
+            dependencies.put(entry.getKey(), tableDependencies);
+        }
+        return dependencies;
+    }
+
+    private List<String> loadOrder(Map<String, Set<String>> dependencies) {
+        Map<String, Integer> waiting = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        Deque<String> ready = new ArrayDeque<>();
+        for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+            waiting.put(entry.getKey(), entry.getValue().size());
+            for (String dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(entry.getKey());
+            }
+            if (entry.getValue().isEmpty()) {
+                ready.add(entry.getKey());
+            }
+        }
+
+        List<String> order = new ArrayList<>(dependencies.size());
+        while (!ready.isEmpty()) {
+            String table = ready.poll();
+            order.add(table);
+            for (String dependent : dependents.getOrDefault(table, List.of())) {
+                if (waiting.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() < dependencies.size()) {
+            Set<String> cyclic = new LinkedHashSet<>(dependencies.keySet());
+            order.forEach(cyclic::remove);
+            throw new IllegalStateException("Cyclic DbSeed dependencies among tables " + cyclic);
+        }
+        return order;
+    }
+
+    private static void requireIdentifier(String name) throws SQLException {
+        if (name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw new SQLException("Invalid DbSeed table or column name: " + name);
+        }
+    }
+
+    /**
+     * Splits a comma-separated cell as a CSV record: double-quoted values may contain commas,
+     * with "" as an escaped quote.
+     */
+    static List<String> split(String text) {
+        List<String> values = new ArrayList<>();
+        if (text == null || text.trim().isEmpty()) {
+            return values;
+        }
+        try (CSVParser parser = CELL_FORMAT.parse(new StringReader(text))) {
+            for (CSVRecord csvRecord : parser) {
+                for (String value : csvRecord) {
+                    values.add(value);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalArgumentException("Invalid comma-separated DbSeed value: " + text, e);
+        }
+        return values;
+    }
+
+    private static void logRate(String what, long rows, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        logger.info("{}: {} row(s) in {} ms ({} rows/s)", what, rows, Math.round(seconds * 1000),
+            seconds > 0 ? Math.round(rows / seconds) : rows);
+    }
+}
@@ -0,0 +1,55 @@
+package com.restassured.framework.core;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+
+/**
+ * Turns workbook cells into the strings a suite is built from, identically for the DOM and the
+ * streaming reader: numbers and dates as Excel displays them, formulas as their cached result,
+ * booleans as true/false and error cells as empty strings.
+ */
+final class ExcelCellFormatter {
+    private final DataFormatter dataFormatter = new DataFormatter();
+
+    /**
+     * The formatter the streaming reader hands to POI for numeric cells.
+     */
+    DataFormatter getDataFormatter() {
+        return dataFormatter;
+    }
+
+    String format(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+        CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+        switch (type) {
+            case STRING:
+                return cell.getRichStringCellValue().getString();
+            case NUMERIC:
+                CellStyle style = cell.getCellStyle();
+                return dataFormatter.formatRawCellContents(cell.getNumericCellValue(),
+                    style.getDataFormat(), style.getDataFormatString());
+            case BOOLEAN:
+                return String.valueOf(cell.getBooleanCellValue());
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Normalizes a value formatted by POI's streaming sheet handler, given the cell's XML type
+     * attribute (null for numbers), to what {@link #format(Cell)} returns for the same cell.
+     */
+    String formatStreamed(String xmlType, String formattedValue) {
+        if (formattedValue == null || "e".equals(xmlType)) {
+            return "";
+        }
+        if ("b".equals(xmlType)) {
+            return String.valueOf("TRUE".equals(formattedValue));
+        }
+        return formattedValue;
+    }
+}
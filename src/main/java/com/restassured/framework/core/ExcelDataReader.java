@@ -2,6 +2,7 @@ package com.restassured.framework.core;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restassured.framework.model.*;
+import com.restassured.framework.util.ConfigUtil;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -10,11 +11,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public class ExcelDataReader {
     private static final Logger logger = LoggerFactory.getLogger(ExcelDataReader.class);
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TestSuiteCache suiteCache = new TestSuiteCache();
+    private final ExcelCellFormatter cellFormatter = new ExcelCellFormatter();
     
     private Map<String, TestCase> testCases;
     private Map<String, TestStep> testSteps;
@@ -22,46 +26,93 @@ public class ExcelDataReader {
     private Map<String, List<com.restassured.framework.model.Header>> headers;
     private Map<String, String> bodies;
     private Map<String, List<TestData>> testData;
+    private Map<String, List<DbSeed>> dbSeeds;
     
     public TestSuite readTestSuite(File file) throws IOException {
+        FrameworkEvents.SuiteParseEvent event = new FrameworkEvents.SuiteParseEvent();
+        event.begin();
+        TestSuite testSuite = null;
+        boolean cacheHit = false;
+        try (PhaseTracer.Span span = PhaseTracer.getInstance().start("parse-suite")) {
+            span.setAttribute("file", file.getName());
+            testSuite = suiteCache.load(file);
+            if (testSuite != null) {
+                cacheHit = true;
+                span.setAttribute("cache", "hit");
+                TestDependencyGraph.build(testSuite);
+                return testSuite;
+            }
+            testSuite = parseTestSuite(file);
+            return testSuite;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.file = file.getPath();
+                event.cacheHit = cacheHit;
+                event.testCases = testSuite != null && testSuite.getTestCases() != null ? testSuite.getTestCases().size() : 0;
+                event.commit();
+            }
+        }
+    }
+    
+    private TestSuite parseTestSuite(File file) throws IOException {
+        // Start from empty tables so one reader can load several files
+        testCases = null;
+        testSteps = null;
+        assertions = null;
+        headers = null;
+        bodies = null;
+        testData = null;
+        dbSeeds = null;
+        
+        TestSuite testSuite;
         if (file.getName().endsWith(".csv")) {
-            return readFromCSV(file);
+            testSuite = readFromCSV(file);
         } else {
-            return readFromExcel(file);
+            testSuite = readFromExcel(file);
         }
+        
+        suiteCache.store(file, testSuite);
+        return testSuite;
     }
     
     private TestSuite readFromCSV(File file) throws IOException {
         logger.info("Reading test suite from CSV file: {}", file.getAbsolutePath());
         
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
+        // RFC 4180 records: quoted fields may contain commas, escaped quotes and line breaks
+        CSVFormat format = CSVFormat.RFC4180.builder()
+            .setIgnoreEmptyLines(true)
+            .setIgnoreSurroundingSpaces(true)
+            .build();
+        
+        try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+             CSVParser parser = format.parse(reader)) {
             String currentTable = null;
             List<String> headers = null;
             
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
+            for (CSVRecord csvRecord : parser) {
+                if (isBlankRecord(csvRecord)) continue;
                 
-                if (line.endsWith("Table 1")) {
-                    currentTable = line.split(":")[0].trim();
+                String tableTitle = getTableTitle(csvRecord);
+                if (tableTitle != null) {
+                    currentTable = tableTitle;
                     headers = null;
                     continue;
                 }
                 
                 if (headers == null) {
-                    headers = Arrays.asList(line.split(","));
+                    headers = new ArrayList<>(csvRecord.size());
+                    for (String header : csvRecord) {
+                        headers.add(header.trim());
+                    }
                     continue;
                 }
                 
-                String[] values = line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
+                if (currentTable == null) continue;
+                
                 Map<String, String> record = new HashMap<>();
-                for (int i = 0; i < headers.size() && i < values.length; i++) {
-                    String value = values[i].trim();
-                    if (value.startsWith("\"") && value.endsWith("\"")) {
-                        value = value.substring(1, value.length() - 1);
-                    }
-                    record.put(headers.get(i), value);
+                for (int i = 0; i < headers.size() && i < csvRecord.size(); i++) {
+                    record.put(headers.get(i), csvRecord.get(i).trim());
                 }
                 
                 switch (currentTable) {
@@ -83,6 +134,9 @@ public class ExcelDataReader {
                     case "TestData":
                         parseTestDataFromMap(record);
                         break;
+                    case "DbSeed":
+                        parseDbSeedFromMap(record);
+                        break;
                 }
             }
         }
@@ -90,7 +144,44 @@ public class ExcelDataReader {
         return buildTestSuite();
     }
     
+    private boolean isBlankRecord(CSVRecord csvRecord) {
+        for (String value : csvRecord) {
+            if (!value.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Returns the table name for a title row such as "TestCases: Table 1", or null for any other row.
+     */
+    private String getTableTitle(CSVRecord csvRecord) {
+        String first = csvRecord.get(0).trim();
+        if (!first.endsWith("Table 1")) {
+            return null;
+        }
+        for (int i = 1; i < csvRecord.size(); i++) {
+            if (!csvRecord.get(i).trim().isEmpty()) {
+                return null;
+            }
+        }
+        return first.split(":")[0].trim();
+    }
+    
+    /**
+     * True if the file is an .xlsx workbook large enough for the streaming reader.
+     */
+    static boolean usesStreamingReader(File file) {
+        long streamingThreshold = ConfigUtil.getLongProperty("test.excel.streaming.threshold", 5L * 1024 * 1024);
+        return file.getName().toLowerCase().endsWith(".xlsx") && file.length() >= streamingThreshold;
+    }
+    
     private TestSuite readFromExcel(File file) throws IOException {
+        if (usesStreamingReader(file)) {
+            return readFromExcelStreaming(file);
+        }
+        
         logger.info("Reading test suite from Excel file: {}", file.getAbsolutePath());
         
         try (Workbook workbook = WorkbookFactory.create(file)) {
@@ -102,27 +193,7 @@ public class ExcelDataReader {
                 Row headerRow = rowIterator.next();
                 
                 while (rowIterator.hasNext()) {
-                    Row row = rowIterator.next();
-                    switch (sheetName) {
-                        case "TestCases":
-                            parseTestCaseFromExcel(row);
-                            break;
-                        case "TestSteps":
-                            parseTestStepFromExcel(row);
-                            break;
-                        case "Assertions":
-                            parseAssertionFromExcel(row);
-                            break;
-                        case "Headers":
-                            parseHeaderFromExcel(row);
-                            break;
-                        case "Bodies":
-                            parseBodyFromExcel(row);
-                            break;
-                        case "TestData":
-                            parseTestDataFromExcel(row);
-                            break;
-                    }
+                    parseExcelRow(sheetName, getCellValues(rowIterator.next()));
                 }
             }
         }
@@ -130,6 +201,53 @@ public class ExcelDataReader {
         return buildTestSuite();
     }
     
+    private TestSuite readFromExcelStreaming(File file) throws IOException {
+        logger.info("Streaming test suite from Excel file: {} ({} bytes)", file.getAbsolutePath(), file.length());
+        
+        new XlsxStreamingReader().read(file, this::parseExcelRow);
+        
+        return buildTestSuite();
+    }
+    
+    private void parseExcelRow(String sheetName, String[] cells) {
+        switch (sheetName) {
+            case "TestCases":
+                parseTestCaseFromExcel(cells);
+                break;
+            case "TestSteps":
+                parseTestStepFromExcel(cells);
+                break;
+            case "Assertions":
+                parseAssertionFromExcel(cells);
+                break;
+            case "Headers":
+                parseHeaderFromExcel(cells);
+                break;
+            case "Bodies":
+                parseBodyFromExcel(cells);
+                break;
+            case "TestData":
+                parseTestDataFromExcel(cells);
+                break;
+            case "DbSeed":
+                parseDbSeedFromExcel(cells);
+                break;
+        }
+    }
+    
+    private String[] getCellValues(Row row) {
+        int lastCell = Math.max(row.getLastCellNum(), 0);
+        String[] cells = new String[lastCell];
+        for (int i = 0; i < lastCell; i++) {
+            cells[i] = cellFormatter.format(row.getCell(i));
+        }
+        return cells;
+    }
+    
+    private String cell(String[] cells, int index) {
+        return index < cells.length ? cells[index] : "";
+    }
+    
     private void parseTestCaseFromMap(Map<String, String> record) {
         TestCase testCase = new TestCase();
         testCase.setTestCaseId(record.get("TestCaseID"));
@@ -145,14 +263,14 @@ public class ExcelDataReader {
         testCases.put(testCase.getTestCaseId(), testCase);
     }
     
-    private void parseTestCaseFromExcel(Row row) {
+    private void parseTestCaseFromExcel(String[] cells) {
         TestCase testCase = new TestCase();
-        testCase.setTestCaseId(getCellValue(row.getCell(0)));
-        testCase.setTestCaseName(getCellValue(row.getCell(1)));
-        testCase.setDescription(getCellValue(row.getCell(2)));
-        testCase.setExecute("Yes".equalsIgnoreCase(getCellValue(row.getCell(3))));
-        testCase.setPreRequisite(getCellValue(row.getCell(4)));
-        testCase.setTestSteps(Arrays.asList(getCellValue(row.getCell(5)).split(",\\s*")));
+        testCase.setTestCaseId(cell(cells, 0));
+        testCase.setTestCaseName(cell(cells, 1));
+        testCase.setDescription(cell(cells, 2));
+        testCase.setExecute("Yes".equalsIgnoreCase(cell(cells, 3)));
+        testCase.setPreRequisite(cell(cells, 4));
+        testCase.setTestSteps(Arrays.asList(cell(cells, 5).split(",\\s*")));
         
         if (testCases == null) {
             testCases = new HashMap<>();
@@ -160,21 +278,6 @@ public class ExcelDataReader {
         testCases.put(testCase.getTestCaseId(), testCase);
     }
     
-    private String getCellValue(Cell cell) {
-        if (cell == null) return "";
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                return String.valueOf((int) cell.getNumericCellValue());
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            default:
-                return "";
-        }
-    }
-    
     private void parseTestStepFromMap(Map<String, String> record) {
         TestStep testStep = new TestStep();
         testStep.setStepId(record.get("StepID"));
@@ -185,15 +288,7 @@ public class ExcelDataReader {
         testStep.setBody(record.get("Body"));
         testStep.setExtractVars(record.get("ExtractVars"));
         
-        String expectedStatus = record.get("ExpectedStatus");
-        try {
-            testStep.setExpectedStatus(expectedStatus != null && !expectedStatus.isEmpty() 
-                ? Integer.parseInt(expectedStatus) 
-                : 200);
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid expected status: {}. Using default value 200.", expectedStatus);
-            testStep.setExpectedStatus(200);
-        }
+        testStep.setExpectedStatus(parseExpectedStatus(record.get("ExpectedStatus")));
         
         testStep.setAssertions(record.get("Assertions"));
         testStep.setSaveResponse("Yes".equalsIgnoreCase(record.get("SaveResponse")));
@@ -204,18 +299,18 @@ public class ExcelDataReader {
         testSteps.put(testStep.getStepId(), testStep);
     }
     
-    private void parseTestStepFromExcel(Row row) {
+    private void parseTestStepFromExcel(String[] cells) {
         TestStep testStep = new TestStep();
-        testStep.setStepId(getCellValue(row.getCell(0)));
-        testStep.setApiName(getCellValue(row.getCell(1)));
-        testStep.setMethod(getCellValue(row.getCell(2)));
-        testStep.setEndpoint(getCellValue(row.getCell(3)));
-        testStep.setHeaders(getCellValue(row.getCell(4)));
-        testStep.setBody(getCellValue(row.getCell(5)));
-        testStep.setExtractVars(getCellValue(row.getCell(6)));
-        testStep.setExpectedStatus(Integer.parseInt(getCellValue(row.getCell(7))));
-        testStep.setAssertions(getCellValue(row.getCell(8)));
-        testStep.setSaveResponse("Yes".equalsIgnoreCase(getCellValue(row.getCell(9))));
+        testStep.setStepId(cell(cells, 0));
+        testStep.setApiName(cell(cells, 1));
+        testStep.setMethod(cell(cells, 2));
+        testStep.setEndpoint(cell(cells, 3));
+        testStep.setHeaders(cell(cells, 4));
+        testStep.setBody(cell(cells, 5));
+        testStep.setExtractVars(cell(cells, 6));
+        testStep.setExpectedStatus(parseExpectedStatus(cell(cells, 7)));
+        testStep.setAssertions(cell(cells, 8));
+        testStep.setSaveResponse("Yes".equalsIgnoreCase(cell(cells, 9)));
         
         if (testSteps == null) {
             testSteps = new HashMap<>();
@@ -223,6 +318,21 @@ public class ExcelDataReader {
         testSteps.put(testStep.getStepId(), testStep);
     }
     
+    /**
+     * Parses an ExpectedStatus cell, also as formatted by Excel (e.g. "200.0"); blank or invalid means 200.
+     */
+    private int parseExpectedStatus(String expectedStatus) {
+        if (expectedStatus == null || expectedStatus.trim().isEmpty()) {
+            return 200;
+        }
+        try {
+            return (int) Double.parseDouble(expectedStatus.trim().replace(",", ""));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid expected status: {}. Using default value 200.", expectedStatus);
+            return 200;
+        }
+    }
+    
     private void parseAssertionFromMap(Map<String, String> record) {
         Assertion assertion = new Assertion();
         assertion.setAssertionId(record.get("Assertions"));
@@ -237,13 +347,13 @@ public class ExcelDataReader {
         assertions.computeIfAbsent(assertion.getAssertionId(), k -> new ArrayList<>()).add(assertion);
     }
     
-    private void parseAssertionFromExcel(Row row) {
+    private void parseAssertionFromExcel(String[] cells) {
         Assertion assertion = new Assertion();
-        assertion.setAssertionId(getCellValue(row.getCell(0)));
-        assertion.setValidationType(getCellValue(row.getCell(1)));
-        assertion.setValidationInputType(getCellValue(row.getCell(2)));
-        assertion.setExpected(getCellValue(row.getCell(3)));
-        assertion.setActual(getCellValue(row.getCell(4)));
+        assertion.setAssertionId(cell(cells, 0));
+        assertion.setValidationType(cell(cells, 1));
+        assertion.setValidationInputType(cell(cells, 2));
+        assertion.setExpected(cell(cells, 3));
+        assertion.setActual(cell(cells, 4));
         
         if (assertions == null) {
             assertions = new HashMap<>();
@@ -263,11 +373,11 @@ public class ExcelDataReader {
         headers.computeIfAbsent(header.getHeaderId(), k -> new ArrayList<>()).add(header);
     }
     
-    private void parseHeaderFromExcel(Row row) {
+    private void parseHeaderFromExcel(String[] cells) {
         com.restassured.framework.model.Header header = new com.restassured.framework.model.Header();
-        header.setHeaderId(getCellValue(row.getCell(0)));
-        header.setKey(getCellValue(row.getCell(1)));
-        header.setValue(getCellValue(row.getCell(2)));
+        header.setHeaderId(cell(cells, 0));
+        header.setKey(cell(cells, 1));
+        header.setValue(cell(cells, 2));
         
         if (headers == null) {
             headers = new HashMap<>();
@@ -282,11 +392,11 @@ public class ExcelDataReader {
         bodies.put(record.get("BodyID"), record.get("JSONTemplate"));
     }
     
-    private void parseBodyFromExcel(Row row) {
+    private void parseBodyFromExcel(String[] cells) {
         if (bodies == null) {
             bodies = new HashMap<>();
         }
-        bodies.put(getCellValue(row.getCell(0)), getCellValue(row.getCell(1)));
+        bodies.put(cell(cells, 0), cell(cells, 1));
     }
     
     private void parseTestDataFromMap(Map<String, String> record) {
@@ -301,11 +411,11 @@ public class ExcelDataReader {
         testData.computeIfAbsent(data.getTestCaseId(), k -> new ArrayList<>()).add(data);
     }
     
-    private void parseTestDataFromExcel(Row row) {
+    private void parseTestDataFromExcel(String[] cells) {
         TestData data = new TestData();
-        data.setTestCaseId(getCellValue(row.getCell(0)));
-        data.setVarName(getCellValue(row.getCell(1)));
-        data.setValue(getCellValue(row.getCell(2)));
+        data.setTestCaseId(cell(cells, 0));
+        data.setVarName(cell(cells, 1));
+        data.setValue(cell(cells, 2));
         
         if (testData == null) {
             testData = new HashMap<>();
@@ -313,6 +423,32 @@ public class ExcelDataReader {
         testData.computeIfAbsent(data.getTestCaseId(), k -> new ArrayList<>()).add(data);
     }
     
+    private void parseDbSeedFromMap(Map<String, String> record) {
+        DbSeed seed = new DbSeed();
+        seed.setTableName(record.get("TableName"));
+        seed.setDependsOn(record.get("DependsOn"));
+        seed.setColumns(record.get("Columns"));
+        seed.setValues(record.get("Values"));
+        addDbSeed(seed);
+    }
+    
+    private void parseDbSeedFromExcel(String[] cells) {
+        DbSeed seed = new DbSeed();
+        seed.setTableName(cell(cells, 0));
+        seed.setDependsOn(cell(cells, 1));
+        seed.setColumns(cell(cells, 2));
+        seed.setValues(cell(cells, 3));
+        addDbSeed(seed);
+    }
+    
+    private void addDbSeed(DbSeed seed) {
+        if (dbSeeds == null) {
+            // Tables are seeded in the order they first appear
+            dbSeeds = new LinkedHashMap<>();
+        }
+        dbSeeds.computeIfAbsent(seed.getTableName(), k -> new ArrayList<>()).add(seed);
+    }
+    
     private TestSuite buildTestSuite() {
         TestSuite testSuite = new TestSuite();
         testSuite.setTestCases(testCases);
@@ -321,6 +457,10 @@ public class ExcelDataReader {
         testSuite.setHeaders(headers);
         testSuite.setBodies(bodies);
         testSuite.setTestData(testData);
+        testSuite.setDbSeeds(dbSeeds);
+        
+        // Fail at load time on cyclic prerequisites instead of recursing at run time
+        TestDependencyGraph.build(testSuite);
         return testSuite;
     }
 } 
\ No newline at end of file
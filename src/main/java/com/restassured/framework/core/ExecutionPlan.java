@@ -0,0 +1,196 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.Assertion;
+import com.restassured.framework.model.Header;
+import com.restassured.framework.model.TestCase;
+import com.restassured.framework.model.TestStep;
+import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import io.restassured.http.Method;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, pre-resolved form of a {@link TestSuite}. Compiling resolves every step, header group,
+ * body and assertion ID to a direct reference, parses methods, extractions, assertion kinds and
+ * templates once, and reports dangling IDs before anything is sent.
+ */
+public final class ExecutionPlan {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionPlan.class);
+
+    private final TestSuite testSuite;
+    private final Map<String, CompiledTestCase> testCases;
+    private final List<String> problems;
+
+    private ExecutionPlan(TestSuite testSuite, Map<String, CompiledTestCase> testCases, List<String> problems) {
+        this.testSuite = testSuite;
+        this.testCases = testCases;
+        this.problems = problems;
+    }
+
+    /**
+     * Compiles the suite. Dangling references are logged; with test.plan.strict=true they fail compilation.
+     * A step that cannot be compiled is kept as an unresolved step that fails its test case when reached.
+     * Cyclic prerequisites always fail compilation, whichever way the suite was built.
+     */
+    public static ExecutionPlan compile(TestSuite testSuite) {
+        // A cycle would make a test case wait on its own unfinished prerequisite result
+        TestDependencyGraph.build(testSuite);
+        
+        List<String> problems = new ArrayList<>();
+        Map<String, CompiledStep> compiledSteps = new HashMap<>();
+        Map<String, CompiledTestCase> compiledCases = new LinkedHashMap<>();
+        Map<String, TestCase> testCases = testSuite.getTestCases() != null
+            ? testSuite.getTestCases()
+            : Collections.emptyMap();
+
+        for (TestCase testCase : testCases.values()) {
+            List<CompiledStep> steps = new ArrayList<>();
+            if (testCase.getTestSteps() != null) {
+                for (String stepId : testCase.getTestSteps()) {
+                    CompiledStep step = compiledSteps.get(stepId);
+                    if (step == null) {
+                        TestStep testStep = testSuite.getTestSteps() != null ? testSuite.getTestSteps().get(stepId) : null;
+                        if (testStep == null) {
+                            String problem = "Test case " + testCase.getTestCaseId() + " references unknown step " + stepId;
+                            problems.add(problem);
+                            TestStep missing = new TestStep();
+                            missing.setStepId(stepId);
+                            steps.add(CompiledStep.unresolved(missing, problem));
+                            continue;
+                        }
+                        int known = problems.size();
+                        step = compileStep(testStep, testSuite, problems);
+                        if (step == null) {
+                            step = CompiledStep.unresolved(testStep, String.join("; ", problems.subList(known, problems.size())));
+                        }
+                        compiledSteps.put(stepId, step);
+                    }
+                    steps.add(step);
+                }
+            }
+            compiledCases.put(testCase.getTestCaseId(),
+                new CompiledTestCase(testCase, Collections.unmodifiableList(steps)));
+        }
+
+        for (CompiledTestCase compiled : compiledCases.values()) {
+            String prerequisiteId = TestDependencyGraph.prerequisiteIdOf(compiled.getTestCase());
+            if (prerequisiteId == null) {
+                continue;
+            }
+            CompiledTestCase prerequisite = compiledCases.get(prerequisiteId);
+            if (prerequisite == null) {
+                problems.add("Test case " + compiled.getTestCaseId() + " references unknown prerequisite " + prerequisiteId);
+                continue;
+            }
+            compiled.setPrerequisite(prerequisite);
+        }
+
+        for (String problem : problems) {
+            logger.warn("Execution plan: {}", problem);
+        }
+        if (!problems.isEmpty() && ConfigUtil.getBooleanProperty("test.plan.strict", false)) {
+            throw new IllegalStateException("Test suite has " + problems.size() + " unresolved reference(s): " + problems);
+        }
+
+        return new ExecutionPlan(testSuite, Collections.unmodifiableMap(compiledCases),
+            Collections.unmodifiableList(problems));
+    }
+
+    /**
+     * Compiles a single step against the suite's tables; returns null if the step cannot run.
+     */
+    static CompiledStep compileStep(TestStep testStep, TestSuite testSuite, List<String> problems) {
+        String stepId = testStep.getStepId();
+
+        Method method;
+        try {
+            method = Method.valueOf(testStep.getMethod().trim().toUpperCase());
+        } catch (RuntimeException e) {
+            problems.add("Step " + stepId + " has invalid method " + testStep.getMethod());
+            return null;
+        }
+
+        List<Map.Entry<String, Template>> headers = new ArrayList<>();
+        if (isReference(testStep.getHeaders())) {
+            List<Header> headerGroup = testSuite.getHeaders() != null ? testSuite.getHeaders().get(testStep.getHeaders()) : null;
+            if (headerGroup == null) {
+                problems.add("Step " + stepId + " references unknown header group " + testStep.getHeaders());
+            } else {
+                for (Header header : headerGroup) {
+                    headers.add(new AbstractMap.SimpleImmutableEntry<>(header.getKey(), compileTemplate(header.getValue())));
+                }
+            }
+        }
+
+        Template body = null;
+        if (isReference(testStep.getBody())) {
+            String bodyTemplate = testSuite.getBodies() != null ? testSuite.getBodies().get(testStep.getBody()) : null;
+            if (bodyTemplate == null) {
+                problems.add("Step " + stepId + " references unknown body " + testStep.getBody());
+            } else {
+                body = Template.compile(bodyTemplate);
+            }
+        }
+
+        List<CompiledAssertion> assertions = new ArrayList<>();
+        if (isReference(testStep.getAssertions())) {
+            List<Assertion> assertionGroup = testSuite.getAssertions() != null
+                ? testSuite.getAssertions().get(testStep.getAssertions())
+                : null;
+            if (assertionGroup == null) {
+                problems.add("Step " + stepId + " references unknown assertions " + testStep.getAssertions());
+            } else {
+                for (Assertion assertion : assertionGroup) {
+                    CompiledAssertion compiled = new CompiledAssertion(assertion);
+                    if (compiled.getKind() == AssertionKind.UNKNOWN) {
+                        problems.add("Assertions " + testStep.getAssertions() + " use unknown type " + assertion.getValidationType());
+                    }
+                    assertions.add(compiled);
+                }
+            }
+        }
+
+        return new CompiledStep(
+            testStep,
+            method,
+            compileTemplate(testStep.getEndpoint()),
+            Collections.unmodifiableList(headers),
+            body,
+            ExtractSpec.parse(testStep.getExtractVars()),
+            Collections.unmodifiableList(assertions)
+        );
+    }
+
+    private static boolean isReference(String id) {
+        return id != null && !id.isEmpty();
+    }
+
+    private static Template compileTemplate(String source) {
+        return Template.compile(source != null ? source : "");
+    }
+
+    public TestSuite getTestSuite() {
+        return testSuite;
+    }
+
+    public CompiledTestCase getTestCase(String testCaseId) {
+        return testCases.get(testCaseId);
+    }
+
+    public Map<String, CompiledTestCase> getTestCases() {
+        return testCases;
+    }
+
+    public List<String> getProblems() {
+        return problems;
+    }
+}
@@ -0,0 +1,40 @@
+package com.restassured.framework.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One "variable=jsonPath" entry of a step's ExtractVars column.
+ */
+public final class ExtractSpec {
+    private final String variableName;
+    private final JsonPathExpression path;
+
+    public ExtractSpec(String variableName, String path) {
+        this.variableName = variableName;
+        this.path = JsonPathExpression.compile(path);
+    }
+
+    public static List<ExtractSpec> parse(String extractVars) {
+        if (extractVars == null || extractVars.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ExtractSpec> specs = new ArrayList<>();
+        for (String varDef : extractVars.split(",")) {
+            String[] parts = varDef.trim().split("=");
+            if (parts.length == 2) {
+                specs.add(new ExtractSpec(parts[0].trim(), parts[1].trim()));
+            }
+        }
+        return Collections.unmodifiableList(specs);
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    public JsonPathExpression getPath() {
+        return path;
+    }
+}
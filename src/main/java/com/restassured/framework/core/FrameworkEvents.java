@@ -0,0 +1,117 @@
+package com.restassured.framework.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for framework activity. Callers follow the usual JFR pattern of
+ * begin, end, then filling in fields only when {@code shouldCommit()} is true, so a disabled
+ * event costs little more than two timestamp reads.
+ */
+public final class FrameworkEvents {
+    private static final String CATEGORY = "REST Assured Framework";
+
+    private FrameworkEvents() {
+    }
+
+    @Name("restassured.Step")
+    @Label("Test Step")
+    @Description("One attempt of a test step: request, status check, assertions and response saving")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class StepEvent extends Event {
+        @Label("Test Case ID")
+        public String testCaseId;
+
+        @Label("Step ID")
+        public String stepId;
+
+        @Label("API Name")
+        public String apiName;
+
+        @Label("Status Code")
+        public int statusCode;
+
+        @Label("Attempt")
+        public int attempt;
+
+        @Label("Passed")
+        public boolean passed;
+    }
+
+    @Name("restassured.HttpRequest")
+    @Label("HTTP Request")
+    @Description("One HTTP exchange sent through RestAssured")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class HttpRequestEvent extends Event {
+        @Label("Test Case ID")
+        public String testCaseId;
+
+        @Label("Step ID")
+        public String stepId;
+
+        @Label("API Name")
+        public String apiName;
+
+        @Label("Method")
+        public String method;
+
+        @Label("Path")
+        public String path;
+
+        @Label("Status Code")
+        public int statusCode;
+    }
+
+    @Name("restassured.Assertion")
+    @Label("Assertion")
+    @Description("Evaluation of one assertion row")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class AssertionEvent extends Event {
+        @Label("Test Case ID")
+        public String testCaseId;
+
+        @Label("Assertion ID")
+        public String assertionId;
+
+        @Label("Validation Type")
+        public String validationType;
+
+        @Label("Passed")
+        public boolean passed;
+    }
+
+    @Name("restassured.Prerequisite")
+    @Label("Prerequisite")
+    @Description("Wait for, or execution of, a test case's prerequisite chain")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class PrerequisiteEvent extends Event {
+        @Label("Test Case ID")
+        public String testCaseId;
+
+        @Label("Prerequisite ID")
+        public String prerequisiteId;
+    }
+
+    @Name("restassured.SuiteParse")
+    @Label("Suite Parsing")
+    @Description("Loading a test suite file, from the snapshot cache or by parsing it")
+    @Category(CATEGORY)
+    public static final class SuiteParseEvent extends Event {
+        @Label("File")
+        public String file;
+
+        @Label("Cache Hit")
+        public boolean cacheHit;
+
+        @Label("Test Cases")
+        public int testCases;
+    }
+}
@@ -0,0 +1,123 @@
+package com.restassured.framework.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A RestAssured (GPath) JSON path compiled once. Plain property/index paths such as
+ * {@code data.items[0].id} are walked directly on a Jackson tree; anything else, or any path
+ * that ends on an object or array, is left to RestAssured's JsonPath so results stay identical.
+ */
+public final class JsonPathExpression {
+    private final String path;
+    private final List<Object> segments;
+
+    private JsonPathExpression(String path, List<Object> segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    public static JsonPathExpression compile(String path) {
+        return new JsonPathExpression(path, parse(path));
+    }
+
+    /**
+     * Splits the path into field names (String) and indexes (Integer), or returns null
+     * when the path uses GPath features that need the Groovy evaluator.
+     */
+    private static List<Object> parse(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        List<Object> segments = new ArrayList<>();
+        int i = 0;
+        int length = path.length();
+        boolean expectName = true;
+
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '[') {
+                int close = path.indexOf(']', i);
+                if (close < 0) {
+                    return null;
+                }
+                try {
+                    segments.add(Integer.parseInt(path.substring(i + 1, close)));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                i = close + 1;
+                expectName = false;
+            } else if (c == '.') {
+                if (expectName) {
+                    return null;
+                }
+                i++;
+                expectName = true;
+            } else if (expectName && Character.isJavaIdentifierStart(c) && c != '$') {
+                int start = i;
+                while (i < length && Character.isJavaIdentifierPart(path.charAt(i)) && path.charAt(i) != '$') {
+                    i++;
+                }
+                segments.add(path.substring(start, i));
+                expectName = false;
+            } else {
+                return null;
+            }
+        }
+        return expectName ? null : Collections.unmodifiableList(segments);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isSimple() {
+        return segments != null;
+    }
+
+    /**
+     * Field names (String) and indexes (Integer) of a simple path; null otherwise.
+     */
+    List<Object> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Walks the tree. Returns the matched node, {@code MissingNode} when the path does not exist,
+     * or null when the path cannot be answered without the GPath evaluator.
+     */
+    JsonNode evaluate(JsonNode root) {
+        if (segments == null) {
+            return null;
+        }
+        JsonNode current = root;
+        for (Object segment : segments) {
+            if (segment instanceof String) {
+                if (current.isArray()) {
+                    // GPath collects the property over every element
+                    return null;
+                }
+                current = current.path((String) segment);
+            } else {
+                if (!current.isArray()) {
+                    return current.isMissingNode() || current.isNull() ? current : null;
+                }
+                int index = (Integer) segment;
+                current = current.path(index < 0 ? current.size() + index : index);
+            }
+            if (current.isMissingNode() || current.isNull()) {
+                return current;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -0,0 +1,186 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.TestStep;
+import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator that replays suite test cases as scenarios. Arrivals follow a
+ * {@link LoadProfile} regardless of how quickly earlier ones finish; each arrival picks a
+ * scenario from a weighted mix and runs it through the normal TestExecutor pipeline.
+ */
+public class LoadGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final TestExecutor testExecutor;
+    private final LoadProfile profile;
+    private final int maxConcurrency;
+    private final boolean virtualThreads;
+    private final ThreadLocal<Arrival> currentArrival = new ThreadLocal<>();
+
+    private static class Arrival {
+        private final long intendedStartNanos;
+        private boolean firstStep = true;
+
+        private Arrival(long intendedStartNanos) {
+            this.intendedStartNanos = intendedStartNanos;
+        }
+    }
+
+    public LoadGenerator(TestExecutor testExecutor, LoadProfile profile, int maxConcurrency, boolean virtualThreads) {
+        this.testExecutor = testExecutor;
+        this.profile = profile;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.virtualThreads = virtualThreads;
+    }
+
+    public static LoadGenerator fromConfig(TestExecutor testExecutor) {
+        return new LoadGenerator(testExecutor, LoadProfile.fromConfig(),
+            ConfigUtil.getIntProperty("load.max.concurrency", 200),
+            ConfigUtil.getBooleanProperty("load.virtual.threads", false));
+    }
+
+    /**
+     * Parses a mix such as "TC_001:3, TC_002:1"; a case without a weight gets weight 1.
+     */
+    public static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        if (spec == null) {
+            return mix;
+        }
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int colon = trimmed.lastIndexOf(':');
+            if (colon < 0) {
+                mix.put(trimmed, 1);
+            } else {
+                mix.put(trimmed.substring(0, colon).trim(), Integer.parseInt(trimmed.substring(colon + 1).trim()));
+            }
+        }
+        return mix;
+    }
+
+    public LoadReport run(TestSuite testSuite, Map<String, Integer> mix) {
+        ExecutionPlan plan = testExecutor.prepareTestSuite(testSuite);
+        List<CompiledTestCase> scenarios = new ArrayList<>();
+        int[] cumulativeWeights = new int[mix.size()];
+        int totalWeight = 0;
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            CompiledTestCase scenario = plan.getTestCase(entry.getKey());
+            if (scenario == null) {
+                throw new IllegalArgumentException("Load scenario " + entry.getKey() + " is not part of the test suite");
+            }
+            if (entry.getValue() <= 0) {
+                throw new IllegalArgumentException("Load scenario " + entry.getKey() + " needs a positive weight");
+            }
+            totalWeight += entry.getValue();
+            cumulativeWeights[scenarios.size()] = totalWeight;
+            scenarios.add(scenario);
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("No load scenarios given");
+        }
+
+        LoadReport report = new LoadReport();
+        WorkerPool pool = virtualThreads
+            ? WorkerPool.virtual(maxConcurrency, maxConcurrency, "load-vworker-")
+            : WorkerPool.platform(maxConcurrency, "load-worker-");
+        testExecutor.setStepListener(new StepListener() {
+            @Override
+            public void onStepCompleted(TestStep testStep, int statusCode, long startNanos, long endNanos, boolean passed) {
+                recordStep(report, testStep, startNanos, endNanos, passed);
+            }
+
+            @Override
+            public void onStepRetried(TestStep testStep, int attempt, int statusCode) {
+                if (currentArrival.get() != null) {
+                    report.recordRetry(testStep.getApiName());
+                }
+            }
+        });
+
+        logger.info("Starting load run: {} arrivals/s over {} s, scenarios {}, at most {} concurrent",
+            profile.getRatePerSecond(), profile.getDurationSeconds(), mix, maxConcurrency);
+        long runStart = System.nanoTime();
+        try {
+            for (long index = 0; ; index++) {
+                long offset = profile.arrivalOffsetNanos(index);
+                if (offset < 0) {
+                    break;
+                }
+                long intendedStart = runStart + offset;
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                CompiledTestCase scenario = pick(scenarios, cumulativeWeights, totalWeight);
+                report.recordArrival();
+                pool.execute(() -> iterate(report, scenario, plan, intendedStart));
+            }
+
+            pool.shutdown();
+            long drainTimeout = ConfigUtil.getLongProperty("load.drain.timeout.seconds", 60);
+            if (!pool.awaitTermination(drainTimeout, TimeUnit.SECONDS)) {
+                logger.warn("Load run still had scenarios in flight after {} s; reporting without them", drainTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Load run interrupted");
+        } finally {
+            testExecutor.setStepListener(null);
+            report.setElapsedNanos(System.nanoTime() - runStart);
+        }
+
+        report.log();
+        return report;
+    }
+
+    private static CompiledTestCase pick(List<CompiledTestCase> scenarios, int[] cumulativeWeights, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private void iterate(LoadReport report, CompiledTestCase scenario, ExecutionPlan plan, long intendedStart) {
+        currentArrival.set(new Arrival(intendedStart));
+        boolean passed = false;
+        try {
+            testExecutor.executeIteration(scenario, plan);
+            passed = true;
+        } catch (RuntimeException | Error e) {
+            logger.debug("Load scenario {} failed", scenario.getTestCaseId(), e);
+        } finally {
+            currentArrival.remove();
+            report.recordScenario(scenario.getTestCaseId(), System.nanoTime() - intendedStart, passed);
+        }
+    }
+
+    private void recordStep(LoadReport report, TestStep testStep, long startNanos, long endNanos, boolean passed) {
+        Arrival arrival = currentArrival.get();
+        if (arrival == null) {
+            return;
+        }
+        // The first step also owns the time the arrival waited for a worker
+        long latency = arrival.firstStep ? endNanos - arrival.intendedStartNanos : endNanos - startNanos;
+        arrival.firstStep = false;
+        report.recordApi(testStep.getApiName(), latency, passed);
+    }
+}
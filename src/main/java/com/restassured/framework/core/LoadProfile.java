@@ -0,0 +1,67 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.util.ConfigUtil;
+
+/**
+ * Arrival schedule for load runs: the rate climbs linearly from zero to the target over the
+ * ramp-up, holds for the steady phase and falls linearly back to zero over the ramp-down.
+ * Arrival times are fixed in advance, so they do not depend on how fast the system responds.
+ */
+public final class LoadProfile {
+    private final double ratePerSecond;
+    private final double rampUpSeconds;
+    private final double steadySeconds;
+    private final double rampDownSeconds;
+
+    public LoadProfile(double ratePerSecond, double rampUpSeconds, double steadySeconds, double rampDownSeconds) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Load rate must be positive: " + ratePerSecond);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.rampUpSeconds = Math.max(0, rampUpSeconds);
+        this.steadySeconds = Math.max(0, steadySeconds);
+        this.rampDownSeconds = Math.max(0, rampDownSeconds);
+    }
+
+    public static LoadProfile fromConfig() {
+        return new LoadProfile(
+            Double.parseDouble(ConfigUtil.getProperty("load.rate", "10")),
+            ConfigUtil.getLongProperty("load.rampup.seconds", 10),
+            ConfigUtil.getLongProperty("load.steady.seconds", 60),
+            ConfigUtil.getLongProperty("load.rampdown.seconds", 10)
+        );
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public double getDurationSeconds() {
+        return rampUpSeconds + steadySeconds + rampDownSeconds;
+    }
+
+    /**
+     * Intended start of the arrival with the given index, in nanoseconds from the start of the
+     * run, or -1 once the profile has no more arrivals. Solves N(t) = index, where N is the
+     * expected number of arrivals by time t.
+     */
+    public long arrivalOffsetNanos(long index) {
+        double rampUpArrivals = ratePerSecond * rampUpSeconds / 2;
+        double steadyArrivals = ratePerSecond * steadySeconds;
+        double rampDownArrivals = ratePerSecond * rampDownSeconds / 2;
+
+        double seconds;
+        if (index < rampUpArrivals) {
+            seconds = Math.sqrt(2 * index * rampUpSeconds / ratePerSecond);
+        } else if (index < rampUpArrivals + steadyArrivals) {
+            seconds = rampUpSeconds + (index - rampUpArrivals) / ratePerSecond;
+        } else if (index < rampUpArrivals + steadyArrivals + rampDownArrivals) {
+            double arrivals = index - rampUpArrivals - steadyArrivals;
+            double discriminant = rampDownSeconds * rampDownSeconds - 2 * rampDownSeconds * arrivals / ratePerSecond;
+            seconds = rampUpSeconds + steadySeconds + rampDownSeconds - Math.sqrt(Math.max(0, discriminant));
+        } else {
+            return -1;
+        }
+        return (long) (seconds * 1_000_000_000L);
+    }
+}
@@ -0,0 +1,124 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.util.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput, error rate and latency percentiles of a load run, per API and per scenario.
+ * Latencies are measured from each arrival's intended start, so time spent queued behind a
+ * slow system is included rather than hidden.
+ */
+public class LoadReport {
+    private static final Logger logger = LoggerFactory.getLogger(LoadReport.class);
+
+    private final Map<String, Stats> apis = new ConcurrentHashMap<>();
+    private final Map<String, Stats> scenarios = new ConcurrentHashMap<>();
+    private final LongAdder arrivals = new LongAdder();
+    private volatile long elapsedNanos;
+
+    public static class Stats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+
+        void record(long nanos, boolean passed) {
+            latency.record(nanos);
+            if (!passed) {
+                errors.increment();
+            }
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * Failed attempts that were retried; they are not part of the count.
+         */
+        public long getRetries() {
+            return retries.sum();
+        }
+
+        public double getErrorRate() {
+            long count = getCount();
+            return count > 0 ? (double) getErrors() / count : 0;
+        }
+    }
+
+    void recordApi(String apiName, long nanos, boolean passed) {
+        apis.computeIfAbsent(apiName != null ? apiName : "unknown", k -> new Stats()).record(nanos, passed);
+    }
+
+    void recordRetry(String apiName) {
+        apis.computeIfAbsent(apiName != null ? apiName : "unknown", k -> new Stats()).retries.increment();
+    }
+
+    void recordScenario(String testCaseId, long nanos, boolean passed) {
+        scenarios.computeIfAbsent(testCaseId, k -> new Stats()).record(nanos, passed);
+    }
+
+    void recordArrival() {
+        arrivals.increment();
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Map<String, Stats> getApis() {
+        return new TreeMap<>(apis);
+    }
+
+    public Map<String, Stats> getScenarios() {
+        return new TreeMap<>(scenarios);
+    }
+
+    public long getArrivals() {
+        return arrivals.sum();
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    public double getThroughput(Stats stats) {
+        double seconds = getElapsedSeconds();
+        return seconds > 0 ? stats.getCount() / seconds : 0;
+    }
+
+    public void log() {
+        logger.info("Load run: {} arrivals in {} s", getArrivals(), String.format("%.1f", getElapsedSeconds()));
+        logTable("API", getApis());
+        logTable("Scenario", getScenarios());
+    }
+
+    private void logTable(String title, Map<String, Stats> rows) {
+        logger.info(String.format("%-30s %8s %7s %8s %9s %9s %9s %9s %9s %9s",
+            title, "count", "err%", "retries", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map.Entry<String, Stats> entry : rows.entrySet()) {
+            Stats stats = entry.getValue();
+            LatencyHistogram latency = stats.getLatency();
+            logger.info(String.format("%-30s %8d %6.2f%% %8d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f",
+                entry.getKey(), stats.getCount(), stats.getErrorRate() * 100, stats.getRetries(), getThroughput(stats),
+                LatencyHistogram.toMillis(latency.getValueAtPercentile(50)),
+                LatencyHistogram.toMillis(latency.getValueAtPercentile(90)),
+                LatencyHistogram.toMillis(latency.getValueAtPercentile(99)),
+                LatencyHistogram.toMillis(latency.getValueAtPercentile(99.9)),
+                LatencyHistogram.toMillis(latency.getMaxNanos())));
+        }
+    }
+}
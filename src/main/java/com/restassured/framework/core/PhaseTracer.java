@@ -0,0 +1,250 @@
+package com.restassured.framework.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.restassured.framework.util.ConfigUtil;
+import com.restassured.framework.util.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spans around the phases of a step (template rendering, request building, the HTTP exchange,
+ * deserialization and assertions), nested under step and test case spans. At the end of a run
+ * the spans are written as an OTLP JSON trace and summarized per phase, so framework overhead
+ * can be told apart from time spent waiting on the server. Disabled unless test.trace.enabled is set.
+ */
+public final class PhaseTracer {
+    private static final Logger logger = LoggerFactory.getLogger(PhaseTracer.class);
+    private static final Span NOOP = new Span(null, null, null, null, 0);
+
+    private final boolean enabled;
+    private final int maxSpans;
+    private final long epochOffsetNanos;
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+    private final Queue<Span> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LatencyHistogram> phases = new ConcurrentHashMap<>();
+
+    private static class Holder {
+        private static final PhaseTracer INSTANCE = new PhaseTracer(
+            ConfigUtil.getBooleanProperty("test.trace.enabled", false),
+            ConfigUtil.getIntProperty("test.trace.max.spans", 100000));
+    }
+
+    public static PhaseTracer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private PhaseTracer(boolean enabled, int maxSpans) {
+        this.enabled = enabled;
+        this.maxSpans = maxSpans;
+        this.epochOffsetNanos = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a span as a child of the thread's current span, or as the root of a new trace.
+     * Close it, normally with try-with-resources, on the same thread.
+     */
+    public Span start(String name) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Span parent = current.get();
+        String traceId = parent != null ? parent.traceId : randomHex(2);
+        Span span = new Span(this, name, traceId, parent, System.nanoTime());
+        current.set(span);
+        return span;
+    }
+
+    /**
+     * Detaches the thread's current span, so the work it covers can continue on another thread
+     * after {@link #resume}.
+     */
+    Span suspend() {
+        if (!enabled) {
+            return NOOP;
+        }
+        Span span = current.get();
+        current.remove();
+        return span;
+    }
+
+    void resume(Span span) {
+        if (enabled && span != null && span.tracer != null) {
+            current.set(span);
+        }
+    }
+
+    private void end(Span span) {
+        if (span.parent != null) {
+            current.set(span.parent);
+        } else {
+            current.remove();
+        }
+        phases.computeIfAbsent(span.name, k -> new LatencyHistogram()).record(span.endNanos - span.startNanos);
+        if (buffered.incrementAndGet() <= maxSpans) {
+            finished.add(span);
+        } else {
+            buffered.decrementAndGet();
+            dropped.increment();
+        }
+    }
+
+    private static String randomHex(int longs) {
+        StringBuilder hex = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            hex.append(String.format("%016x", ThreadLocalRandom.current().nextLong()));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Logs the per-phase summary and writes the spans recorded since the last report to
+     * trace-otlp.json in the report directory.
+     */
+    public void report(File reportDir) {
+        if (!enabled || phases.isEmpty()) {
+            return;
+        }
+        List<Span> spans = new ArrayList<>();
+        Span span;
+        while ((span = finished.poll()) != null) {
+            spans.add(span);
+            buffered.decrementAndGet();
+        }
+
+        logSummary();
+        if (dropped.sum() > 0) {
+            logger.warn("{} span(s) were not kept because test.trace.max.spans ({}) was reached", dropped.sum(), maxSpans);
+        }
+        try {
+            reportDir.mkdirs();
+            File traceFile = new File(reportDir, "trace-otlp.json");
+            new ObjectMapper().writeValue(traceFile, toOtlp(spans));
+            logger.info("Wrote {} span(s) to {}", spans.size(), traceFile);
+        } catch (IOException e) {
+            logger.warn("Could not write trace to {}", reportDir, e);
+        }
+        phases.clear();
+        dropped.reset();
+    }
+
+    private void logSummary() {
+        StringBuilder table = new StringBuilder(String.format("%-14s %8s %10s %9s %9s %9s%n",
+            "Phase", "count", "total ms", "mean ms", "p50 ms", "p99 ms"));
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(phases).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            table.append(String.format("%-14s %8d %10.1f %9.2f %9.2f %9.2f%n",
+                entry.getKey(), histogram.getCount(),
+                LatencyHistogram.toMillis((long) (histogram.getMeanNanos() * histogram.getCount())),
+                LatencyHistogram.toMillis((long) histogram.getMeanNanos()),
+                LatencyHistogram.toMillis(histogram.getValueAtPercentile(50)),
+                LatencyHistogram.toMillis(histogram.getValueAtPercentile(99))));
+        }
+        logger.info("Time per phase:{}{}", System.lineSeparator(), table);
+    }
+
+    private ObjectNode toOtlp(List<Span> spans) {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        ObjectNode resourceSpans = root.putArray("resourceSpans").addObject();
+        ArrayNode resourceAttributes = resourceSpans.putObject("resource").putArray("attributes");
+        addAttribute(resourceAttributes, "service.name", "restassured-framework");
+        ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", PhaseTracer.class.getPackage().getName());
+        ArrayNode spanArray = scopeSpans.putArray("spans");
+
+        for (Span span : spans) {
+            ObjectNode node = spanArray.addObject();
+            node.put("traceId", span.traceId);
+            node.put("spanId", span.spanId);
+            if (span.parent != null) {
+                node.put("parentSpanId", span.parent.spanId);
+            }
+            node.put("name", span.name);
+            node.put("kind", 1);
+            // OTLP JSON carries 64-bit integers as strings
+            node.put("startTimeUnixNano", String.valueOf(epochOffsetNanos + span.startNanos));
+            node.put("endTimeUnixNano", String.valueOf(epochOffsetNanos + span.endNanos));
+            ArrayNode attributes = node.putArray("attributes");
+            if (span.attributes != null) {
+                for (Map.Entry<String, String> attribute : span.attributes.entrySet()) {
+                    addAttribute(attributes, attribute.getKey(), attribute.getValue());
+                }
+            }
+            node.putObject("status").put("code", span.failed ? 2 : 0);
+        }
+        return root;
+    }
+
+    private static void addAttribute(ArrayNode attributes, String key, String value) {
+        ObjectNode attribute = attributes.addObject();
+        attribute.put("key", key);
+        attribute.putObject("value").put("stringValue", value);
+    }
+
+    /**
+     * A timed phase. All methods are no-ops when tracing is disabled.
+     */
+    public static final class Span implements AutoCloseable {
+        private final PhaseTracer tracer;
+        private final String name;
+        private final String traceId;
+        private final String spanId;
+        private final Span parent;
+        private final long startNanos;
+        private long endNanos;
+        private Map<String, String> attributes;
+        private boolean failed;
+
+        private Span(PhaseTracer tracer, String name, String traceId, Span parent, long startNanos) {
+            this.tracer = tracer;
+            this.name = name;
+            this.traceId = traceId;
+            this.spanId = tracer != null ? randomHex(1) : null;
+            this.parent = parent;
+            this.startNanos = startNanos;
+        }
+
+        public Span setAttribute(String key, String value) {
+            if (tracer != null && value != null) {
+                if (attributes == null) {
+                    attributes = new TreeMap<>();
+                }
+                attributes.put(key, value);
+            }
+            return this;
+        }
+
+        public void setFailed() {
+            failed = true;
+        }
+
+        @Override
+        public void close() {
+            if (tracer != null && endNanos == 0) {
+                endNanos = System.nanoTime();
+                tracer.end(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.restassured.framework.core;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs virtual threads that stay pinned to their carrier, typically by blocking inside a
+ * synchronized block, using the JDK's jdk.VirtualThreadPinned event. The event only exists on
+ * JDKs with virtual threads; elsewhere the monitor records nothing.
+ */
+final class PinningMonitor implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(PinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int FRAMES_LOGGED = 8;
+
+    private final RecordingStream stream;
+    private final LongAdder pinnedEvents = new LongAdder();
+
+    private PinningMonitor(RecordingStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Starts reporting pins longer than the threshold, or returns null if JFR is unavailable.
+     */
+    static PinningMonitor start(long thresholdMillis) {
+        try {
+            RecordingStream stream = new RecordingStream();
+            PinningMonitor monitor = new PinningMonitor(stream);
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+            stream.onEvent(PINNED_EVENT, monitor::report);
+            stream.startAsync();
+            if (System.getProperty("jdk.tracePinnedThreads") == null) {
+                logger.info("Reporting virtual thread pins over {} ms; -Djdk.tracePinnedThreads=full also prints them from the JVM",
+                    thresholdMillis);
+            }
+            return monitor;
+        } catch (RuntimeException | Error e) {
+            logger.warn("Virtual thread pinning diagnostics unavailable: {}", e.toString());
+            return null;
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedEvents.increment();
+        StringBuilder frames = new StringBuilder();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            List<RecordedFrame> recorded = stackTrace.getFrames();
+            for (int i = 0; i < recorded.size() && i < FRAMES_LOGGED; i++) {
+                RecordedFrame frame = recorded.get(i);
+                frames.append(System.lineSeparator()).append("\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber());
+            }
+        }
+        logger.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), frames);
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+        long pinned = pinnedEvents.sum();
+        if (pinned > 0) {
+            logger.warn("{} virtual thread pinning event(s) during the run", pinned);
+        }
+    }
+}
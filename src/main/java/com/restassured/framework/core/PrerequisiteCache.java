@@ -0,0 +1,120 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.util.ConfigUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the outcome of each test case executed in a run, so a prerequisite shared by
+ * many test cases is executed once and its extracted variables are handed to every dependent.
+ * With a positive TTL a result is reused only until it expires; otherwise it lives for the whole run.
+ */
+public class PrerequisiteCache {
+    private static final Logger logger = LoggerFactory.getLogger(PrerequisiteCache.class);
+
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public PrerequisiteCache() {
+        this(ConfigUtil.getLongProperty("test.prerequisite.cache.ttl", 0));
+    }
+
+    public PrerequisiteCache(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Returns the variables extracted by the given test case, executing it only if there is no
+     * live result yet. Concurrent callers wait for the same execution. A failure is rethrown to the
+     * caller that executed the test case and reported as {@link PrerequisiteFailedException} to the others.
+     */
+    public Map<String, String> getOrExecute(String testCaseId, Supplier<Map<String, String>> execution) {
+        CompletableFuture<Map<String, String>> created = new CompletableFuture<>();
+        long now = System.currentTimeMillis();
+        Entry entry = entries.compute(testCaseId, (id, current) ->
+            current != null && !current.isExpired(now, ttlMillis) ? current : new Entry(created, now));
+
+        if (entry.result == created) {
+            try {
+                Map<String, String> variables = Collections.unmodifiableMap(new HashMap<>(execution.get()));
+                created.complete(variables);
+                return variables;
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        logger.debug("Reusing result of test case {}", testCaseId);
+        try {
+            return entry.result.join();
+        } catch (CompletionException e) {
+            throw new PrerequisiteFailedException(testCaseId, e.getCause());
+        }
+    }
+
+    /**
+     * Like {@link #getOrExecute}, for an execution that completes asynchronously. A failure of an
+     * execution started by another caller completes the returned future with {@link PrerequisiteFailedException}.
+     */
+    public CompletableFuture<Map<String, String>> getOrExecuteAsync(String testCaseId,
+                                                                    Supplier<CompletableFuture<Map<String, String>>> execution) {
+        CompletableFuture<Map<String, String>> created = new CompletableFuture<>();
+        long now = System.currentTimeMillis();
+        Entry entry = entries.compute(testCaseId, (id, current) ->
+            current != null && !current.isExpired(now, ttlMillis) ? current : new Entry(created, now));
+
+        if (entry.result == created) {
+            try {
+                execution.get().whenComplete((variables, failure) -> {
+                    if (failure != null) {
+                        created.completeExceptionally(unwrap(failure));
+                    } else {
+                        created.complete(Collections.unmodifiableMap(new HashMap<>(variables)));
+                    }
+                });
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+            }
+            return created;
+        }
+
+        logger.debug("Reusing result of test case {}", testCaseId);
+        return entry.result.handle((variables, failure) -> {
+            if (failure != null) {
+                throw new CompletionException(new PrerequisiteFailedException(testCaseId, unwrap(failure)));
+            }
+            return variables;
+        });
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private static class Entry {
+        private final CompletableFuture<Map<String, String>> result;
+        private final long createdAt;
+
+        private Entry(CompletableFuture<Map<String, String>> result, long createdAt) {
+            this.result = result;
+            this.createdAt = createdAt;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return ttlMillis > 0 && result.isDone() && now - createdAt > ttlMillis;
+        }
+    }
+}
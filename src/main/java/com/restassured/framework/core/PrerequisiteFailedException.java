@@ -0,0 +1,17 @@
+package com.restassured.framework.core;
+
+/**
+ * Raised for a test case whose prerequisite already failed earlier in the run.
+ */
+public class PrerequisiteFailedException extends RuntimeException {
+    private final String prerequisiteId;
+
+    public PrerequisiteFailedException(String prerequisiteId, Throwable cause) {
+        super("Prerequisite " + prerequisiteId + " failed earlier in this run", cause);
+        this.prerequisiteId = prerequisiteId;
+    }
+
+    public String getPrerequisiteId() {
+        return prerequisiteId;
+    }
+}
@@ -2,86 +2,138 @@ package com.restassured.framework.core;
 
 import com.restassured.framework.model.Header;
 import com.restassured.framework.model.TestStep;
+import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import com.restassured.framework.util.HttpClientPool;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
-import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 public class RequestBuilder {
     private static final Logger logger = LoggerFactory.getLogger(RequestBuilder.class);
     private final VariableManager variableManager;
+    private final long streamingThreshold;
     
     public RequestBuilder(VariableManager variableManager) {
         this.variableManager = variableManager;
+        this.streamingThreshold = ConfigUtil.getLongProperty("test.response.streaming.threshold", 10L * 1024 * 1024);
     }
     
     public Response executeRequest(TestStep testStep, Map<String, List<Header>> headersMap, Map<String, String> bodiesMap) {
-        logger.info("Executing request for step: {}", testStep.getStepId());
+        TestSuite tables = new TestSuite();
+        tables.setHeaders(headersMap);
+        tables.setBodies(bodiesMap);
         
-        // Get base URL from configuration
-        String baseUrl = System.getProperty("api.base.url", "http://localhost:8080");
+        List<String> problems = new ArrayList<>();
+        CompiledStep step = ExecutionPlan.compileStep(testStep, tables, problems);
+        if (step == null) {
+            throw new IllegalArgumentException(String.join("; ", problems));
+        }
+        return executeRequest(step).getResponse();
+    }
+    
+    /**
+     * Sends the step's request and applies its extractions. The returned document is meant to be
+     * passed on to {@link AssertionEngine} so the body is parsed only once per step.
+     */
+    public ResponseDocument executeRequest(CompiledStep step) {
+        logger.info("Executing request for step: {}", step.getStepId());
         
-        // Build request specification
-        RequestSpecification requestSpec = RestAssured.given()
-            .baseUri(baseUrl)
-            .contentType(ContentType.JSON);
+        PhaseTracer tracer = PhaseTracer.getInstance();
         
-        // Apply headers
-        applyHeaders(requestSpec, testStep.getHeaders(), headersMap);
+        // Get base URL from configuration
+        String baseUrl = System.getProperty("api.base.url", "http://localhost:8080");
         
-        // Apply body if present
-        if (testStep.getBody() != null && !testStep.getBody().isEmpty()) {
-            String bodyTemplate = bodiesMap.get(testStep.getBody());
-            if (bodyTemplate != null) {
-                String substitutedBody = variableManager.substituteVariables(bodyTemplate);
-                requestSpec.body(substitutedBody);
+        // Render headers, body and endpoint
+        List<Map.Entry<String, String>> headers = new ArrayList<>(step.getHeaders().size());
+        String body = null;
+        String endpoint;
+        try (PhaseTracer.Span span = tracer.start("template")) {
+            for (Map.Entry<String, Template> header : step.getHeaders()) {
+                headers.add(Map.entry(header.getKey(), variableManager.render(header.getValue())));
+            }
+            if (step.getBody() != null) {
+                body = variableManager.render(step.getBody());
             }
+            endpoint = variableManager.render(step.getEndpoint());
         }
         
-        // Execute request
-        String endpoint = variableManager.substituteVariables(testStep.getEndpoint());
-        Method method = Method.valueOf(testStep.getMethod().toUpperCase());
-        
-        logger.debug("Sending {} request to {}", method, endpoint);
-        Response response = requestSpec.request(method, endpoint);
+        // Build request specification
+        RequestSpecification requestSpec;
+        try (PhaseTracer.Span span = tracer.start("build")) {
+            requestSpec = RestAssured.given()
+                .config(HttpClientPool.getInstance().getRestAssuredConfig())
+                .baseUri(baseUrl)
+                .contentType(ContentType.JSON);
+            for (Map.Entry<String, String> header : headers) {
+                requestSpec.header(header.getKey(), header.getValue());
+            }
+            if (body != null) {
+                requestSpec.body(body);
+            }
+        }
         
-        // Extract variables if specified
-        extractVariables(response, testStep.getExtractVars());
+        // Execute request. RestAssured returns once the headers are in and leaves the body on the
+        // connection; it is received here, so network time stays out of the deserialize phase,
+        // unless it is large enough to be evaluated while it streams in
+        logger.debug("Sending {} request to {}", step.getMethod(), endpoint);
+        Response response = null;
+        ResponseDocument document = null;
+        boolean streamed = false;
+        FrameworkEvents.HttpRequestEvent event = new FrameworkEvents.HttpRequestEvent();
+        event.begin();
+        try (PhaseTracer.Span span = tracer.start("http")) {
+            span.setAttribute("http.request.method", step.getMethod().name())
+                .setAttribute("url.path", endpoint);
+            response = requestSpec.request(step.getMethod(), endpoint);
+            document = new ResponseDocument(response);
+            streamed = !step.getTestStep().isSaveResponse()
+                && document.isStreamable(step.getResponsePaths(), streamingThreshold);
+            if (!streamed) {
+                response.asByteArray();
+            }
+            span.setAttribute("http.response.status_code", String.valueOf(response.getStatusCode()));
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.testCaseId = variableManager.getCurrentScope().getTestCaseId();
+                event.stepId = step.getStepId();
+                event.apiName = step.getTestStep().getApiName();
+                event.method = step.getMethod().name();
+                event.path = endpoint;
+                event.statusCode = response != null ? response.getStatusCode() : -1;
+                event.commit();
+            }
+        }
         
-        return response;
-    }
-    
-    private void applyHeaders(RequestSpecification requestSpec, String headerId, Map<String, List<Header>> headersMap) {
-        if (headerId != null && !headerId.isEmpty()) {
-            List<Header> headers = headersMap.get(headerId);
-            if (headers != null) {
-                for (Header header : headers) {
-                    String value = variableManager.substituteVariables(header.getValue());
-                    requestSpec.header(header.getKey(), value);
-                }
+        try (PhaseTracer.Span span = tracer.start("deserialize")) {
+            // Very large bodies are scanned once for just the paths this step needs; this phase
+            // then includes receiving them
+            if (streamed) {
+                document.prefetch(step.getResponsePaths());
+                logger.debug("Evaluated response of step {} in streaming mode", step.getStepId());
+                span.setAttribute("streamed", "true");
             }
+            
+            // Extract variables if specified
+            extractVariables(document, step.getExtractSpecs());
         }
+        
+        return document;
     }
     
-    private void extractVariables(Response response, String extractVars) {
-        if (extractVars != null && !extractVars.isEmpty()) {
-            String[] varDefinitions = extractVars.split(",");
-            for (String varDef : varDefinitions) {
-                String[] parts = varDef.trim().split("=");
-                if (parts.length == 2) {
-                    String varName = parts[0].trim();
-                    String jsonPath = parts[1].trim();
-                    String value = response.jsonPath().getString(jsonPath);
-                    variableManager.setStepVariable(varName, value);
-                    logger.debug("Extracted variable {} = {}", varName, value);
-                }
-            }
+    private void extractVariables(ResponseDocument document, List<ExtractSpec> extractSpecs) {
+        for (ExtractSpec spec : extractSpecs) {
+            String value = document.getString(spec.getPath());
+            variableManager.setExtractedVariable(spec.getVariableName(), value);
+            logger.debug("Extracted variable {} = {}", spec.getVariableName(), value);
         }
     }
-} 
\ No newline at end of file
+}
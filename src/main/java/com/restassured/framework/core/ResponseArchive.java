@@ -0,0 +1,417 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.util.ConfigUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Stores the responses of SaveResponse steps without blocking the workers on disk I/O. Workers
+ * hand responses to a queue bounded both in entries and in bytes; a single background thread
+ * drains it in batches into deflate-compressed, append-only segment files under
+ * test.response.save.dir, named {@code <runId>-<n>.seg}. Next to each segment, an .idx file holds
+ * one tab-separated line per record (test case ID, step ID, offset, length, status, start time),
+ * so a response is read back with a single seek. When the queue is full, submitting waits up to
+ * test.response.archive.offer.timeout ms and then drops the response.
+ */
+public class ResponseArchive implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseArchive.class);
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final File directory;
+    private final String runId;
+    private final int batchSize;
+    private final long segmentSize;
+    private final long offerTimeoutMillis;
+    private final int maxQueuedBytes;
+    private final BlockingQueue<ArchivedResponse> queue;
+    private final Semaphore queuedBytes;
+    private final Map<String, List<Location>> index = new ConcurrentHashMap<>();
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private volatile boolean closed;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+
+    // Owned by the writer thread, and by close() once the writer has stopped
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream(64 * 1024);
+    private DataOutputStream segmentOut;
+    private BufferedWriter indexOut;
+    private String segmentName;
+    private long segmentOffset;
+    private int segmentNumber;
+
+    private static final class Location {
+        private final String segmentName;
+        private final long offset;
+        private final int length;
+
+        private Location(String segmentName, long offset, int length) {
+            this.segmentName = segmentName;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    public ResponseArchive(File directory, String runId, int queueSize, int maxQueuedBytes, int batchSize,
+                           long segmentSize, long offerTimeoutMillis) {
+        this.directory = directory;
+        this.runId = runId;
+        this.batchSize = Math.max(1, batchSize);
+        this.segmentSize = segmentSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxQueuedBytes = Math.max(1, maxQueuedBytes);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueSize));
+        this.queuedBytes = new Semaphore(this.maxQueuedBytes);
+
+        this.writer = new Thread(this::writeLoop, "response-archive-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        // Daemon writer: make sure queued responses reach disk if the run ends without close()
+        this.shutdownHook = new Thread(this::close, "response-archive-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Archive for a new run, configured from test.response.archive.* and named after test.run.id
+     * when set, otherwise after the current time.
+     */
+    public static ResponseArchive fromConfig() {
+        String runId = ConfigUtil.getProperty("test.run.id");
+        if (runId == null || runId.trim().isEmpty()) {
+            runId = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date())
+                + "-" + Integer.toHexString(ThreadLocalRandom.current().nextInt(0x1000, 0x10000));
+        }
+        return new ResponseArchive(
+            new File(ConfigUtil.getProperty("test.response.save.dir", "target/test-responses")),
+            runId.trim(),
+            ConfigUtil.getIntProperty("test.response.archive.queue.size", 1024),
+            ConfigUtil.getIntProperty("test.response.archive.queue.bytes", 64 * 1024 * 1024),
+            ConfigUtil.getIntProperty("test.response.archive.batch.size", 256),
+            ConfigUtil.getLongProperty("test.response.archive.segment.size", 64L * 1024 * 1024),
+            ConfigUtil.getLongProperty("test.response.archive.offer.timeout", 5000));
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * Queues the response for writing. Returns immediately while the queue has room; otherwise
+     * waits for the writer to catch up, and returns false if the response had to be dropped.
+     */
+    public boolean submit(ArchivedResponse response) {
+        if (closed) {
+            logger.warn("Response archive {} is closed, not saving step {}", runId, response.getStepId());
+            dropped.increment();
+            return false;
+        }
+        // A body larger than the whole byte budget waits for an empty queue
+        int permits = (int) Math.min(maxQueuedBytes, (long) response.getBody().length + response.getHeaders().length());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        boolean acquired = false;
+        try {
+            acquired = queuedBytes.tryAcquire(permits);
+            if (!acquired) {
+                waited.increment();
+                acquired = queuedBytes.tryAcquire(permits, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+            if (acquired && (queue.offer(response)
+                    || queue.offer(response, deadline - System.nanoTime(), TimeUnit.NANOSECONDS))) {
+                submitted.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (acquired) {
+            queuedBytes.release(permits);
+        }
+        dropped.increment();
+        logger.warn("Response archive queue still full after {} ms, dropping the response of step {}",
+            offerTimeoutMillis, response.getStepId());
+        return false;
+    }
+
+    private void writeLoop() {
+        List<ArchivedResponse> batch = new ArrayList<>(batchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                ArchivedResponse first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("Response archive writer stopped", e);
+        }
+    }
+
+    private void writeBatch(List<ArchivedResponse> batch) {
+        List<Location> locations = new ArrayList<>(batch.size());
+        int bytes = 0;
+        try {
+            for (ArchivedResponse response : batch) {
+                if (segmentOut == null || segmentOffset >= segmentSize) {
+                    openNextSegment();
+                }
+                encode(response);
+                Location location = new Location(segmentName, segmentOffset, 4 + recordBuffer.size());
+                segmentOut.writeInt(recordBuffer.size());
+                recordBuffer.writeTo(segmentOut);
+                indexOut.write(response.getTestCaseId() + "\t" + response.getStepId() + "\t" + location.offset + "\t"
+                    + location.length + "\t" + response.getStatusCode() + "\t" + response.getStartedAtMillis() + "\n");
+                segmentOffset += location.length;
+                locations.add(location);
+                compressedBytes.add(location.length);
+                bytes += response.getBody().length + response.getHeaders().length();
+            }
+            // Data before index, so an index entry never points past the end of a segment
+            segmentOut.flush();
+            indexOut.flush();
+            for (int i = 0; i < batch.size(); i++) {
+                ArchivedResponse response = batch.get(i);
+                index.computeIfAbsent(key(response.getTestCaseId(), response.getStepId()), k -> new CopyOnWriteArrayList<>())
+                    .add(locations.get(i));
+            }
+            written.add(batch.size());
+            rawBytes.add(bytes);
+            batches.increment();
+        } catch (IOException e) {
+            logger.error("Could not write {} response(s) to the archive in {}", batch.size(), directory, e);
+            dropped.add(batch.size());
+            // Start over in a fresh segment rather than appending after a partial record
+            closeSegment();
+        } finally {
+            long permits = 0;
+            for (ArchivedResponse response : batch) {
+                permits += Math.min(maxQueuedBytes, (long) response.getBody().length + response.getHeaders().length());
+            }
+            queuedBytes.release((int) Math.min(permits, Integer.MAX_VALUE));
+        }
+    }
+
+    private void encode(ArchivedResponse response) throws IOException {
+        recordBuffer.reset();
+        deflater.reset();
+        byte[] headers = response.getHeaders().getBytes(StandardCharsets.UTF_8);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(recordBuffer, deflater, 8192))) {
+            out.writeUTF(response.getTestCaseId());
+            out.writeUTF(response.getStepId());
+            out.writeInt(response.getStatusCode());
+            out.writeLong(response.getStartedAtMillis());
+            out.writeLong(response.getDurationNanos());
+            out.writeInt(headers.length);
+            out.write(headers);
+            out.writeInt(response.getBody().length);
+            out.write(response.getBody());
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        closeSegment();
+        Files.createDirectories(directory.toPath());
+        segmentNumber++;
+        segmentName = String.format("%s-%05d", runId, segmentNumber);
+        segmentOut = new DataOutputStream(new BufferedOutputStream(
+            new FileOutputStream(new File(directory, segmentName + SEGMENT_SUFFIX), true), 256 * 1024));
+        indexOut = new BufferedWriter(new OutputStreamWriter(
+            new FileOutputStream(new File(directory, segmentName + INDEX_SUFFIX), true), StandardCharsets.UTF_8));
+        segmentOffset = new File(directory, segmentName + SEGMENT_SUFFIX).length();
+    }
+
+    private void closeSegment() {
+        try {
+            if (segmentOut != null) {
+                segmentOut.close();
+            }
+            if (indexOut != null) {
+                indexOut.close();
+            }
+        } catch (IOException e) {
+            logger.error("Could not close archive segment {}", segmentName, e);
+        } finally {
+            segmentOut = null;
+            indexOut = null;
+        }
+    }
+
+    private static String key(String testCaseId, String stepId) {
+        return testCaseId + '\u0000' + stepId;
+    }
+
+    /**
+     * Responses of the step written so far in this run, oldest first. Responses still in the
+     * queue are not included.
+     */
+    public List<ArchivedResponse> find(String testCaseId, String stepId) {
+        List<Location> locations = index.get(key(testCaseId, stepId));
+        if (locations == null) {
+            return Collections.emptyList();
+        }
+        List<ArchivedResponse> responses = new ArrayList<>(locations.size());
+        for (Location location : locations) {
+            ArchivedResponse response = read(directory, location);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Responses of the step saved by any run, current or past, whose segments are in the directory.
+     */
+    public static List<ArchivedResponse> find(File directory, String runId, String testCaseId, String stepId) {
+        Pattern indexName = Pattern.compile(Pattern.quote(runId) + "-\\d{5}" + Pattern.quote(INDEX_SUFFIX));
+        File[] indexFiles = directory.listFiles((dir, name) -> indexName.matcher(name).matches());
+        if (indexFiles == null) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(indexFiles);
+
+        List<ArchivedResponse> responses = new ArrayList<>();
+        for (File indexFile : indexFiles) {
+            String segment = indexFile.getName().substring(0, indexFile.getName().length() - INDEX_SUFFIX.length());
+            try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\t");
+                    if (fields.length >= 4 && fields[0].equals(testCaseId) && fields[1].equals(stepId)) {
+                        ArchivedResponse response = read(directory,
+                            new Location(segment, Long.parseLong(fields[2]), Integer.parseInt(fields[3])));
+                        if (response != null) {
+                            responses.add(response);
+                        }
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                logger.error("Could not read archive index {}", indexFile, e);
+            }
+        }
+        return responses;
+    }
+
+    private static ArchivedResponse read(File directory, Location location) {
+        File segment = new File(directory, location.segmentName + SEGMENT_SUFFIX);
+        byte[] record = new byte[location.length];
+        try (RandomAccessFile file = new RandomAccessFile(segment, "r")) {
+            file.seek(location.offset);
+            file.readFully(record);
+        } catch (IOException e) {
+            logger.error("Could not read archived response at {}:{}", segment, location.offset, e);
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(record, 4, record.length - 4)))) {
+            String testCaseId = in.readUTF();
+            String stepId = in.readUTF();
+            int statusCode = in.readInt();
+            long startedAtMillis = in.readLong();
+            long durationNanos = in.readLong();
+            byte[] headers = new byte[in.readInt()];
+            in.readFully(headers);
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new ArchivedResponse(testCaseId, stepId, statusCode, startedAtMillis, durationNanos,
+                new String(headers, StandardCharsets.UTF_8), body);
+        } catch (IOException e) {
+            logger.error("Archived response at {}:{} is corrupt", segment, location.offset, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stops accepting responses, waits for the queue to be written and closes the current segment.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warn("Response archive writer did not finish within 30 s; {} response(s) not written", queue.size());
+        } else {
+            // Responses queued while close() was being called
+            List<ArchivedResponse> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                writeBatch(remaining);
+            }
+            closeSegment();
+            deflater.end();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // Already shutting down
+        }
+        logStatistics();
+    }
+
+    public void logStatistics() {
+        if (submitted.sum() == 0 && dropped.sum() == 0) {
+            return;
+        }
+        logger.info("Response archive {}: {} saved, {} written in {} batch(es), {} dropped, {} waited for queue space, "
+                + "{} KB compressed to {} KB in {}",
+            runId, submitted.sum(), written.sum(), batches.sum(), dropped.sum(), waited.sum(),
+            rawBytes.sum() / 1024, compressedBytes.sum() / 1024, directory);
+    }
+}
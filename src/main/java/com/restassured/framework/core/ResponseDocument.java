@@ -0,0 +1,147 @@
+package com.restassured.framework.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A response whose body is parsed at most once, shared by every extraction and assertion of a step.
+ * Simple paths are read from a Jackson tree; other paths use a single cached RestAssured JsonPath.
+ * Very large bodies can instead be evaluated while they are received, see {@link #prefetch}.
+ */
+public class ResponseDocument {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseDocument.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Response response;
+    private Map<String, String> streamedValues;
+    private JsonNode tree;
+    private boolean treeParsed;
+    private JsonPath jsonPath;
+
+    public ResponseDocument(Response response) {
+        this.response = response;
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+
+    /**
+     * True if the body should be evaluated in a single streaming pass for the given paths instead of
+     * being received whole: it is declared at least {@code threshold} bytes long, or sent without a
+     * Content-Length, and every path is a plain property/index path.
+     */
+    public boolean isStreamable(Collection<JsonPathExpression> paths, long threshold) {
+        if (paths.isEmpty()) {
+            return false;
+        }
+        long length = contentLength();
+        if (length >= 0 && length < threshold) {
+            return false;
+        }
+        for (JsonPathExpression path : paths) {
+            if (!StreamingJsonEvaluator.supports(path)) {
+                logger.debug("Path {} needs the full document, not streaming the response", path);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves all the given paths in one pass over the response stream, without holding the body.
+     * The body is consumed, so afterwards only these paths can be read from this document.
+     */
+    public void prefetch(Collection<JsonPathExpression> paths) {
+        try (InputStream body = response.asInputStream()) {
+            streamedValues = new StreamingJsonEvaluator().evaluate(body, paths);
+        } catch (IOException e) {
+            throw new IllegalStateException("Streamed response body could not be read as JSON", e);
+        }
+    }
+
+    /**
+     * Declared body length, or -1 if the response has none (chunked or until close).
+     */
+    private long contentLength() {
+        String header = response.getHeader("Content-Length");
+        if (header == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Same result as {@code response.jsonPath().getString(path)}.
+     */
+    public String getString(JsonPathExpression path) {
+        if (streamedValues != null) {
+            if (!streamedValues.containsKey(path.getPath())) {
+                throw new IllegalStateException("Path " + path + " was not prefetched from the streamed response");
+            }
+            return streamedValues.get(path.getPath());
+        }
+        return evaluate(path.isSimple() ? getTree() : null, path, this::getJsonPath);
+    }
+
+    /**
+     * Reads a simple path from the tree when it ends on a value, and asks JsonPath otherwise.
+     */
+    static String evaluate(JsonNode root, JsonPathExpression path, Supplier<JsonPath> jsonPath) {
+        if (root != null && path.isSimple()) {
+            JsonNode node = path.evaluate(root);
+            if (node != null) {
+                if (node.isMissingNode() || node.isNull()) {
+                    return null;
+                }
+                if (node.isFloatingPointNumber()) {
+                    return formatDecimal(node.doubleValue());
+                }
+                if (node.isValueNode()) {
+                    return node.asText();
+                }
+            }
+        }
+        return jsonPath.get().getString(path.getPath());
+    }
+
+    /**
+     * JsonPath returns decimals as Float when they fit and Double otherwise; format them the same way.
+     */
+    static String formatDecimal(double value) {
+        return Math.abs(value) <= Float.MAX_VALUE ? String.valueOf((float) value) : String.valueOf(value);
+    }
+
+    public JsonNode getTree() {
+        if (!treeParsed) {
+            treeParsed = true;
+            try {
+                tree = objectMapper.readTree(response.asByteArray());
+            } catch (IOException e) {
+                logger.debug("Response body is not JSON, falling back to JsonPath", e);
+            }
+        }
+        return tree;
+    }
+
+    public JsonPath getJsonPath() {
+        if (jsonPath == null) {
+            jsonPath = response.jsonPath();
+        }
+        return jsonPath;
+    }
+}
@@ -0,0 +1,147 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.util.ConfigUtil;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether a failed step attempt is retried and after how long, using the
+ * {@link RetryPolicy} of the step's API. Over the life of its TestExecutor (one run), retries are
+ * capped at test.retry.budget.min plus test.retry.budget.ratio of all requests, so a backend that
+ * is down sees a bounded amount of extra traffic rather than every request times the retry count.
+ */
+public class RetryEngine {
+    private static final Logger logger = LoggerFactory.getLogger(RetryEngine.class);
+
+    private final RetryPolicy defaultPolicy;
+    private final Map<String, RetryPolicy> policies = new ConcurrentHashMap<>();
+    private final double budgetRatio;
+    private final long budgetMin;
+    private final LongAdder requests = new LongAdder();
+    private final AtomicLong retries = new AtomicLong();
+    private final LongAdder denied = new LongAdder();
+    private volatile ScheduledExecutorService timer;
+
+    public RetryEngine(RetryPolicy defaultPolicy, double budgetRatio, long budgetMin) {
+        this.defaultPolicy = defaultPolicy;
+        this.budgetRatio = budgetRatio;
+        this.budgetMin = budgetMin;
+    }
+
+    public static RetryEngine fromConfig() {
+        return new RetryEngine(RetryPolicy.fromConfig(),
+            Double.parseDouble(ConfigUtil.getProperty("test.retry.budget.ratio", "0.1")),
+            ConfigUtil.getLongProperty("test.retry.budget.min", 10));
+    }
+
+    public RetryPolicy getPolicy(String apiName) {
+        if (apiName == null) {
+            return defaultPolicy;
+        }
+        return policies.computeIfAbsent(apiName, name -> RetryPolicy.forApi(name, defaultPolicy));
+    }
+
+    /**
+     * Counts a request towards the retry budget; called for every attempt, retries included.
+     */
+    public void recordRequest() {
+        requests.increment();
+    }
+
+    /**
+     * Returns the backoff in nanoseconds before retrying the step, or -1 if the failed attempt
+     * (1 for the first) is not retried. Exactly one of {@code error} and {@code response} is set.
+     */
+    public long onFailure(CompiledStep step, int attempt, Throwable error, Response response) {
+        RetryPolicy policy = getPolicy(step.getTestStep().getApiName());
+        if (attempt > policy.getMaxRetries() || !policy.allows(step.getMethod())) {
+            return -1;
+        }
+        boolean retryable = error != null ? policy.isRetryable(error) : policy.isRetryable(response.getStatusCode());
+        if (!retryable) {
+            return -1;
+        }
+        if (!tryAcquireBudget()) {
+            denied.increment();
+            logger.warn("Retry budget for this run is used up, not retrying step {}", step.getStepId());
+            return -1;
+        }
+        return policy.backoffNanos(attempt, response != null ? retryAfterMillis(response) : 0);
+    }
+
+    private boolean tryAcquireBudget() {
+        while (true) {
+            long used = retries.get();
+            if (used >= budgetMin + (long) (budgetRatio * requests.sum())) {
+                return false;
+            }
+            if (retries.compareAndSet(used, used + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static long retryAfterMillis(Response response) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            // An HTTP date; fall back to the policy's own backoff
+            return 0;
+        }
+    }
+
+    /**
+     * Waits out a backoff on the calling thread. Used where the caller has nothing else to run;
+     * on a virtual thread this releases the carrier.
+     */
+    public void await(long delayNanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+
+    /**
+     * Runs the task after the backoff without holding any thread in the meantime. The task runs on
+     * the timer thread and should only hand work to an executor.
+     */
+    public void schedule(long delayNanos, Runnable task) {
+        ScheduledExecutorService current = timer;
+        if (current == null) {
+            synchronized (this) {
+                current = timer;
+                if (current == null) {
+                    current = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "step-retry-timer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    timer = current;
+                }
+            }
+        }
+        current.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void logStatistics() {
+        if (retries.get() > 0 || denied.sum() > 0) {
+            logger.info("Retries: {} of {} request(s) were retries, {} retry(ies) refused by the budget",
+                retries.get(), requests.sum(), denied.sum());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.util.ConfigUtil;
+import io.restassured.http.Method;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When and how often a failed step is retried: how many retries, which methods, which status
+ * codes and exception types count as transient, and the exponential backoff between attempts.
+ */
+public final class RetryPolicy {
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Set<String> methods;
+    private final Set<Integer> statuses;
+    private final Set<String> exceptions;
+
+    public RetryPolicy(int maxRetries, long baseDelayMillis, long maxDelayMillis, Set<String> methods,
+                       Set<Integer> statuses, Set<String> exceptions) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.baseDelayMillis = Math.max(0, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+        this.methods = Collections.unmodifiableSet(methods);
+        this.statuses = Collections.unmodifiableSet(statuses);
+        this.exceptions = Collections.unmodifiableSet(exceptions);
+    }
+
+    /**
+     * The default policy, from test.retry.count, test.retry.delay, test.retry.max.delay,
+     * test.retry.methods, test.retry.statuses and test.retry.exceptions.
+     */
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy(
+            ConfigUtil.getIntProperty("test.retry.count", 0),
+            ConfigUtil.getLongProperty("test.retry.delay", 1000),
+            ConfigUtil.getLongProperty("test.retry.max.delay", 30000),
+            upperCaseSet(ConfigUtil.getProperty("test.retry.methods", "GET,HEAD,OPTIONS,PUT,DELETE")),
+            statusSet(ConfigUtil.getProperty("test.retry.statuses", "429,502,503,504")),
+            stringSet(ConfigUtil.getProperty("test.retry.exceptions",
+                "java.net.ConnectException,java.net.SocketTimeoutException,org.apache.http.NoHttpResponseException")));
+    }
+
+    /**
+     * The policy for one API name: test.retry.api.&lt;APIName&gt;.* keys override the defaults.
+     */
+    public static RetryPolicy forApi(String apiName, RetryPolicy defaults) {
+        String prefix = "test.retry.api." + apiName + ".";
+        String methods = ConfigUtil.getProperty(prefix + "methods");
+        String statuses = ConfigUtil.getProperty(prefix + "statuses");
+        String exceptions = ConfigUtil.getProperty(prefix + "exceptions");
+        return new RetryPolicy(
+            ConfigUtil.getIntProperty(prefix + "count", defaults.maxRetries),
+            ConfigUtil.getLongProperty(prefix + "delay", defaults.baseDelayMillis),
+            ConfigUtil.getLongProperty(prefix + "max.delay", defaults.maxDelayMillis),
+            methods != null ? upperCaseSet(methods) : defaults.methods,
+            statuses != null ? statusSet(statuses) : defaults.statuses,
+            exceptions != null ? stringSet(exceptions) : defaults.exceptions);
+    }
+
+    private static Set<String> stringSet(String list) {
+        Set<String> values = new HashSet<>();
+        for (String value : list.split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+    private static Set<String> upperCaseSet(String list) {
+        Set<String> values = new HashSet<>();
+        for (String value : stringSet(list)) {
+            values.add(value.toUpperCase());
+        }
+        return values;
+    }
+
+    private static Set<Integer> statusSet(String list) {
+        Set<Integer> values = new HashSet<>();
+        for (String value : stringSet(list)) {
+            values.add(Integer.parseInt(value));
+        }
+        return values;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public boolean allows(Method method) {
+        return methods.contains("*") || methods.contains(method.name());
+    }
+
+    public boolean isRetryable(int statusCode) {
+        return statuses.contains(statusCode);
+    }
+
+    /**
+     * True if the exception, or one of its causes, is or extends one of the configured types.
+     */
+    public boolean isRetryable(Throwable error) {
+        Throwable current = error;
+        for (int depth = 0; current != null && depth < 10; depth++, current = current.getCause()) {
+            for (Class<?> type = current.getClass(); type != null; type = type.getSuperclass()) {
+                if (exceptions.contains(type.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delay before the given retry (1 for the first): the base delay doubled per retry and capped,
+     * of which a random half is kept so clients failing together do not retry together. A
+     * Retry-After from the server is honored up to the maximum delay.
+     */
+    public long backoffNanos(int retry, long retryAfterMillis) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retry - 1, 30));
+        long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        if (retryAfterMillis > delay) {
+            delay = Math.min(retryAfterMillis, maxDelayMillis);
+        }
+        return TimeUnit.MILLISECONDS.toNanos(delay);
+    }
+}
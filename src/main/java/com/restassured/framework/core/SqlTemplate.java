@@ -0,0 +1,97 @@
+package com.restassured.framework.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A database assertion query with its {{...}} placeholders turned into JDBC bind parameters.
+ * A quoted literal containing placeholders, such as {@code '%{{name}}%'}, becomes a single
+ * parameter bound to the rendered literal; a bare placeholder becomes a parameter of its own.
+ * Placeholders therefore cannot stand in for table or column names.
+ */
+public final class SqlTemplate {
+    private final String source;
+    private final String sql;
+    private final List<Template> parameters;
+
+    private SqlTemplate(String source, String sql, List<Template> parameters) {
+        this.source = source;
+        this.sql = sql;
+        this.parameters = Collections.unmodifiableList(parameters);
+    }
+
+    public static SqlTemplate compile(String source) {
+        StringBuilder sql = new StringBuilder(source.length());
+        List<Template> parameters = new ArrayList<>();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\'') {
+                int end = endOfLiteral(source, i);
+                String literal = source.substring(i, end);
+                if (literal.contains("{{")) {
+                    String content = literal.substring(1, literal.endsWith("'") ? literal.length() - 1 : literal.length());
+                    parameters.add(Template.compile(content.replace("''", "'")));
+                    sql.append('?');
+                } else {
+                    sql.append(literal);
+                }
+                i = end;
+            } else if (c == '"') {
+                int end = source.indexOf('"', i + 1);
+                end = end < 0 ? source.length() : end + 1;
+                sql.append(source, i, end);
+                i = end;
+            } else if (source.startsWith("{{", i)) {
+                int close = source.indexOf("}}", i + 2);
+                if (close < 0) {
+                    sql.append(source, i, source.length());
+                    break;
+                }
+                parameters.add(Template.compile(source.substring(i, close + 2)));
+                sql.append('?');
+                i = close + 2;
+            } else {
+                sql.append(c);
+                i++;
+            }
+        }
+        return new SqlTemplate(source, sql.toString(), parameters);
+    }
+
+    private static int endOfLiteral(String source, int start) {
+        int i = start + 1;
+        while (i < source.length()) {
+            if (source.charAt(i) == '\'') {
+                if (i + 1 < source.length() && source.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return source.length();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * The query text with a {@code ?} for each parameter.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public List<Template> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,22 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.TestStep;
+
+/**
+ * Notified on the executing thread after every test step, whether it passed or not.
+ */
+public interface StepListener {
+    /**
+     * @param statusCode the response status, or -1 if no response was received
+     * @param startNanos {@link System#nanoTime()} before the request was built
+     * @param endNanos {@link System#nanoTime()} after assertions were evaluated
+     */
+    void onStepCompleted(TestStep testStep, int statusCode, long startNanos, long endNanos, boolean passed);
+
+    /**
+     * Called when a failed attempt (1 for the first) is going to be retried. The step is reported
+     * to {@link #onStepCompleted} only once, after its last attempt, timed from the first.
+     */
+    default void onStepRetried(TestStep testStep, int attempt, int statusCode) {
+    }
+}
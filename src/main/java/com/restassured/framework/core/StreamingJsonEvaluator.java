@@ -0,0 +1,243 @@
+package com.restassured.framework.core;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.restassured.path.json.JsonPath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves a set of simple JSON paths in one forward pass over a response stream, without
+ * building a tree of the body. Subtrees that no path leads into are skipped, and parsing stops
+ * as soon as every path has a value. Used for bodies too large to hold in memory.
+ */
+class StreamingJsonEvaluator {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Only property/index paths with non-negative indexes can be answered in a single pass.
+     */
+    static boolean supports(JsonPathExpression path) {
+        if (!path.isSimple()) {
+            return false;
+        }
+        for (Object segment : path.getSegments()) {
+            if (segment instanceof Integer && (Integer) segment < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the string value of every path, keyed by path text; missing paths map to null.
+     * Where a path needs more than a scalar lookup - it ends on an object or array, reads a
+     * property across array elements or indexes a non-array - only the value at that point is
+     * read into a tree and the rest of the path is evaluated on it as {@link ResponseDocument}
+     * would on the whole body.
+     */
+    Map<String, String> evaluate(InputStream body, Collection<JsonPathExpression> paths) throws IOException {
+        Walk walk = new Walk(paths);
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != null) {
+                walk.value(parser, 0, walk.pending());
+            }
+        }
+        walk.resolveRemaining();
+        return walk.values;
+    }
+
+    private static class Walk {
+        private final Map<String, String> values = new HashMap<>();
+        private final Set<JsonPathExpression> unresolved;
+
+        private Walk(Collection<JsonPathExpression> paths) {
+            this.unresolved = new LinkedHashSet<>(paths);
+        }
+
+        private List<JsonPathExpression> pending() {
+            return new ArrayList<>(unresolved);
+        }
+
+        private boolean done() {
+            return unresolved.isEmpty();
+        }
+
+        private void resolve(JsonPathExpression path, String value) {
+            if (unresolved.remove(path)) {
+                values.put(path.getPath(), value);
+            }
+        }
+
+        private void resolveRemaining() {
+            for (JsonPathExpression path : pending()) {
+                resolve(path, null);
+            }
+        }
+
+        /**
+         * Handles the value at the parser's current token. Every candidate matches the current
+         * location for its first {@code depth} segments.
+         */
+        private void value(JsonParser parser, int depth, List<JsonPathExpression> candidates) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (needsTree(token, depth, candidates)) {
+                resolveFromTree(objectMapper.readTree(parser), depth, candidates);
+                return;
+            }
+
+            List<JsonPathExpression> deeper = new ArrayList<>();
+            for (JsonPathExpression path : candidates) {
+                if (path.getSegments().size() == depth) {
+                    resolve(path, scalarText(parser, token));
+                } else {
+                    deeper.add(path);
+                }
+            }
+
+            if (token == JsonToken.START_OBJECT) {
+                object(parser, depth, deeper);
+            } else if (token == JsonToken.START_ARRAY) {
+                array(parser, depth, deeper);
+            } else {
+                // A scalar has no properties, so deeper paths do not exist
+                for (JsonPathExpression path : deeper) {
+                    resolve(path, null);
+                }
+            }
+        }
+
+        /**
+         * True where the tree evaluator would hand a candidate to GPath rather than walk it.
+         */
+        private boolean needsTree(JsonToken token, int depth, List<JsonPathExpression> candidates) {
+            boolean container = token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+            for (JsonPathExpression path : candidates) {
+                List<Object> segments = path.getSegments();
+                if (segments.size() == depth) {
+                    if (container) {
+                        return true;
+                    }
+                    continue;
+                }
+                boolean index = segments.get(depth) instanceof Integer;
+                if (token == JsonToken.START_ARRAY ? !index : index && token != JsonToken.VALUE_NULL) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void resolveFromTree(JsonNode subtree, int depth, List<JsonPathExpression> candidates) {
+            // Wrapped so the rest of each path applies to the subtree as it did in the document
+            ObjectNode root = objectMapper.createObjectNode();
+            root.set("v", subtree);
+            JsonPath[] jsonPath = new JsonPath[1];
+            for (JsonPathExpression path : candidates) {
+                JsonPathExpression relative = JsonPathExpression.compile("v" + suffix(path.getSegments(), depth));
+                resolve(path, ResponseDocument.evaluate(root, relative, () -> {
+                    if (jsonPath[0] == null) {
+                        jsonPath[0] = JsonPath.from(root.toString());
+                    }
+                    return jsonPath[0];
+                }));
+            }
+        }
+
+        private static String suffix(List<Object> segments, int from) {
+            StringBuilder suffix = new StringBuilder();
+            for (Object segment : segments.subList(from, segments.size())) {
+                if (segment instanceof Integer) {
+                    suffix.append('[').append(segment).append(']');
+                } else {
+                    suffix.append('.').append(segment);
+                }
+            }
+            return suffix.toString();
+        }
+
+        private void object(JsonParser parser, int depth, List<JsonPathExpression> candidates) throws IOException {
+            if (candidates.isEmpty()) {
+                parser.skipChildren();
+                return;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                List<JsonPathExpression> matching = new ArrayList<>();
+                for (JsonPathExpression path : candidates) {
+                    if (unresolved.contains(path) && name.equals(path.getSegments().get(depth))) {
+                        matching.add(path);
+                    }
+                }
+                if (matching.isEmpty()) {
+                    parser.skipChildren();
+                } else {
+                    value(parser, depth + 1, matching);
+                }
+                if (done()) {
+                    return;
+                }
+            }
+
+            // Keys never seen in this object are missing
+            for (JsonPathExpression path : candidates) {
+                resolve(path, null);
+            }
+        }
+
+        private void array(JsonParser parser, int depth, List<JsonPathExpression> candidates) throws IOException {
+            if (candidates.isEmpty()) {
+                parser.skipChildren();
+                return;
+            }
+
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                List<JsonPathExpression> matching = new ArrayList<>();
+                for (JsonPathExpression path : candidates) {
+                    if (unresolved.contains(path) && Integer.valueOf(index).equals(path.getSegments().get(depth))) {
+                        matching.add(path);
+                    }
+                }
+                if (matching.isEmpty()) {
+                    parser.skipChildren();
+                } else {
+                    value(parser, depth + 1, matching);
+                }
+                if (done()) {
+                    return;
+                }
+                index++;
+            }
+
+            // Indexes past the end of the array are missing
+            for (JsonPathExpression path : candidates) {
+                resolve(path, null);
+            }
+        }
+
+        private String scalarText(JsonParser parser, JsonToken token) throws IOException {
+            switch (token) {
+                case VALUE_NULL:
+                    return null;
+                case VALUE_NUMBER_FLOAT:
+                    return ResponseDocument.formatDecimal(parser.getDoubleValue());
+                default:
+                    return parser.getText();
+            }
+        }
+    }
+}
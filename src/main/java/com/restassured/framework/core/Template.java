@@ -0,0 +1,99 @@
+package com.restassured.framework.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A string with {{variable}} and {{$function(args)}} placeholders, parsed once into
+ * literal, variable and function segments so it can be rendered in a single pass.
+ */
+public final class Template {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    enum Kind { LITERAL, VARIABLE, FUNCTION }
+
+    static final class Segment {
+        final Kind kind;
+        final String text;
+        final String name;
+        final String arguments;
+
+        private Segment(Kind kind, String text, String name, String arguments) {
+            this.kind = kind;
+            this.text = text;
+            this.name = name;
+            this.arguments = arguments;
+        }
+    }
+
+    private final String source;
+    private final Segment[] segments;
+    private final int literalLength;
+
+    private Template(String source, Segment[] segments, int literalLength) {
+        this.source = source;
+        this.segments = segments;
+        this.literalLength = literalLength;
+    }
+
+    public static Template compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        int literalLength = 0;
+        int position = 0;
+
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            if (open > position) {
+                segments.add(literal(source.substring(position, open)));
+                literalLength += open - position;
+            }
+            segments.add(placeholder(source.substring(open, close + CLOSE.length()),
+                source.substring(open + OPEN.length(), close)));
+            position = close + CLOSE.length();
+        }
+        if (position < source.length()) {
+            segments.add(literal(source.substring(position)));
+            literalLength += source.length() - position;
+        }
+
+        return new Template(source, segments.toArray(new Segment[0]), literalLength);
+    }
+
+    private static Segment literal(String text) {
+        return new Segment(Kind.LITERAL, text, null, null);
+    }
+
+    private static Segment placeholder(String text, String expression) {
+        int argumentsStart = expression.indexOf('(');
+        if (expression.startsWith("$") && argumentsStart > 0 && expression.endsWith(")")) {
+            return new Segment(Kind.FUNCTION, text,
+                expression.substring(1, argumentsStart),
+                expression.substring(argumentsStart + 1, expression.length() - 1));
+        }
+        return new Segment(Kind.VARIABLE, text, expression, null);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public boolean isConstant() {
+        return segments.length == 0 || (segments.length == 1 && segments[0].kind == Kind.LITERAL);
+    }
+
+    Segment[] getSegments() {
+        return segments;
+    }
+
+    /**
+     * Length of the literal text, used to presize the render buffer.
+     */
+    int getLiteralLength() {
+        return literalLength;
+    }
+}
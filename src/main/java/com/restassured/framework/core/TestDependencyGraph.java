@@ -0,0 +1,92 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.TestCase;
+import com.restassured.framework.model.TestSuite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prerequisite graph of a test suite. Each test case names at most one prerequisite,
+ * so the graph is a forest once cycles are ruled out.
+ */
+public class TestDependencyGraph {
+    private static final Logger logger = LoggerFactory.getLogger(TestDependencyGraph.class);
+
+    private final Map<String, String> prerequisites;
+
+    private TestDependencyGraph(Map<String, String> prerequisites) {
+        this.prerequisites = prerequisites;
+    }
+
+    /**
+     * Builds the graph and fails fast if the prerequisites form a cycle.
+     */
+    public static TestDependencyGraph build(TestSuite testSuite) {
+        Map<String, TestCase> testCases = testSuite.getTestCases() != null
+            ? testSuite.getTestCases()
+            : Collections.emptyMap();
+
+        Map<String, String> prerequisites = new LinkedHashMap<>();
+
+        for (TestCase testCase : testCases.values()) {
+            String prerequisiteId = prerequisiteIdOf(testCase);
+            if (prerequisiteId == null) {
+                continue;
+            }
+            if (!testCases.containsKey(prerequisiteId)) {
+                logger.warn("Prerequisite {} of test case {} not found, ignoring it",
+                    prerequisiteId, testCase.getTestCaseId());
+                continue;
+            }
+            prerequisites.put(testCase.getTestCaseId(), prerequisiteId);
+        }
+
+        detectCycles(prerequisites);
+        return new TestDependencyGraph(prerequisites);
+    }
+
+    public static String prerequisiteIdOf(TestCase testCase) {
+        String prerequisite = testCase.getPreRequisite();
+        if (prerequisite == null) {
+            return null;
+        }
+        prerequisite = prerequisite.trim();
+        if (prerequisite.isEmpty() || "None".equalsIgnoreCase(prerequisite)) {
+            return null;
+        }
+        return prerequisite;
+    }
+
+    private static void detectCycles(Map<String, String> prerequisites) {
+        Set<String> verified = new HashSet<>();
+
+        for (String start : prerequisites.keySet()) {
+            Set<String> path = new LinkedHashSet<>();
+            String current = start;
+
+            while (current != null && !verified.contains(current)) {
+                if (!path.add(current)) {
+                    List<String> cycle = new ArrayList<>(path);
+                    cycle = cycle.subList(cycle.indexOf(current), cycle.size());
+                    throw new IllegalStateException("Cyclic prerequisites detected: "
+                        + String.join(" -> ", cycle) + " -> " + current);
+                }
+                current = prerequisites.get(current);
+            }
+            verified.addAll(path);
+        }
+    }
+
+    public String getPrerequisite(String testCaseId) {
+        return prerequisites.get(testCaseId);
+    }
+}
@@ -1,14 +1,26 @@
 package com.restassured.framework.core;
 
 import com.restassured.framework.model.TestCase;
+import com.restassured.framework.model.TestData;
 import com.restassured.framework.model.TestStep;
 import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import com.restassured.framework.util.ConnectionPool;
+import com.restassured.framework.util.HttpClientPool;
+import io.restassured.http.Header;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public class TestExecutor {
     private static final Logger logger = LoggerFactory.getLogger(TestExecutor.class);
@@ -16,13 +28,87 @@ public class TestExecutor {
     private final RequestBuilder requestBuilder;
     private final AssertionEngine assertionEngine;
     
+    private final PrerequisiteCache prerequisiteCache;
+    private final Map<TestSuite, ExecutionPlan> plans;
+    private volatile StepListener stepListener;
+    private final ApiMetrics apiMetrics = new ApiMetrics();
+    private final RetryEngine retryEngine = RetryEngine.fromConfig();
+    private volatile ResponseArchive responseArchive;
+    
     public TestExecutor(VariableManager variableManager, RequestBuilder requestBuilder, AssertionEngine assertionEngine) {
+        this(variableManager, requestBuilder, assertionEngine, new PrerequisiteCache());
+    }
+    
+    public TestExecutor(VariableManager variableManager, RequestBuilder requestBuilder, AssertionEngine assertionEngine,
+                        PrerequisiteCache prerequisiteCache) {
         this.variableManager = variableManager;
         this.requestBuilder = requestBuilder;
         this.assertionEngine = assertionEngine;
+        this.prerequisiteCache = prerequisiteCache;
+        this.plans = Collections.synchronizedMap(new WeakHashMap<>());
+    }
+    
+    /**
+     * Returns the compiled plan for the suite, compiling it on first use.
+     */
+    public ExecutionPlan getExecutionPlan(TestSuite testSuite) {
+        return plans.computeIfAbsent(testSuite, ExecutionPlan::compile);
+    }
+    
+    /**
+     * Request latency of every step this executor has run.
+     */
+    public ApiMetrics getApiMetrics() {
+        return apiMetrics;
+    }
+    
+    public void setStepListener(StepListener stepListener) {
+        this.stepListener = stepListener;
+    }
+    
+    /**
+     * The archive that SaveResponse steps of the current run are written to, opened on first use.
+     */
+    public ResponseArchive getResponseArchive() {
+        ResponseArchive archive = responseArchive;
+        if (archive == null) {
+            synchronized (this) {
+                archive = responseArchive;
+                if (archive == null) {
+                    archive = ResponseArchive.fromConfig();
+                    responseArchive = archive;
+                }
+            }
+        }
+        return archive;
+    }
+    
+    /**
+     * Compiles the suite and loads its DbSeed tables. Runs once before the first test case.
+     */
+    public ExecutionPlan prepareTestSuite(TestSuite testSuite) {
+        ExecutionPlan plan = getExecutionPlan(testSuite);
+        new DatabaseSeeder().seed(testSuite);
+        return plan;
     }
     
     public void executeTestSuite(TestSuite testSuite) {
+        prepareTestSuite(testSuite);
+        
+        try {
+            int threads = ConfigUtil.getIntProperty("test.parallel.threads", 1);
+            boolean virtualThreads = ConfigUtil.getBooleanProperty("test.virtual.threads", false);
+            if (threads > 1 || virtualThreads) {
+                executeTestSuiteInParallel(testSuite, threads, virtualThreads);
+            } else {
+                executeTestSuiteSequentially(testSuite);
+            }
+        } finally {
+            logRunSummary();
+        }
+    }
+    
+    private void executeTestSuiteSequentially(TestSuite testSuite) {
         logger.info("Starting test suite execution");
         
         for (Map.Entry<String, TestCase> entry : testSuite.getTestCases().entrySet()) {
@@ -33,52 +119,279 @@ public class TestExecutor {
                 continue;
             }
             
-            executeTestCase(testCase, testSuite);
+            try {
+                executeTestCase(testCase, testSuite);
+            } catch (PrerequisiteFailedException e) {
+                logger.warn("Skipping test case {}: {}", testCase.getTestCaseId(), e.getMessage());
+            }
+        }
+    }
+    
+    private void executeTestSuiteInParallel(TestSuite testSuite, int threads, boolean virtualThreads) {
+        // Variable scopes are per thread, so all workers can share this executor
+        TestScheduler scheduler = new TestScheduler(this, threads, virtualThreads,
+            ConfigUtil.getIntProperty("test.virtual.max.concurrency", 1000));
+        
+        Map<String, TestScheduler.Outcome> outcomes = scheduler.execute(testSuite);
+        if (outcomes.containsValue(TestScheduler.Outcome.FAILED)) {
+            throw new AssertionError("One or more test cases failed");
+        }
+    }
+    
+    /**
+     * Executes the test case once per run, running its prerequisite chain first.
+     * Returns the variables extracted by the test case and its prerequisites.
+     */
+    public Map<String, String> executeTestCase(TestCase testCase, TestSuite testSuite) {
+        ExecutionPlan plan = getExecutionPlan(testSuite);
+        CompiledTestCase compiled = plan.getTestCase(testCase.getTestCaseId());
+        if (compiled == null) {
+            throw new IllegalArgumentException("Test case " + testCase.getTestCaseId() + " is not part of the test suite");
+        }
+        return executeTestCase(compiled, plan);
+    }
+    
+    public Map<String, String> executeTestCase(CompiledTestCase testCase, ExecutionPlan plan) {
+        return prerequisiteCache.getOrExecute(testCase.getTestCaseId(), () -> {
+            Map<String, String> inherited = Collections.emptyMap();
+            
+            // Execute prerequisite test case if specified
+            if (testCase.getPrerequisite() != null) {
+                inherited = executePrerequisite(testCase, plan);
+            }
+            
+            return runTestCase(testCase, plan, inherited);
+        });
+    }
+    
+    public CompletableFuture<Map<String, String>> executeTestCaseAsync(TestCase testCase, TestSuite testSuite,
+                                                                       Executor executor) {
+        ExecutionPlan plan = getExecutionPlan(testSuite);
+        CompiledTestCase compiled = plan.getTestCase(testCase.getTestCaseId());
+        if (compiled == null) {
+            return CompletableFuture.failedFuture(
+                new IllegalArgumentException("Test case " + testCase.getTestCaseId() + " is not part of the test suite"));
+        }
+        return executeTestCaseAsync(compiled, plan, executor);
+    }
+    
+    /**
+     * Same as {@link #executeTestCase(CompiledTestCase, ExecutionPlan)}, starting on the calling thread.
+     * While a step waits to be retried, the test case holds no thread: it is suspended and continues
+     * on the executor once the backoff has elapsed.
+     */
+    public CompletableFuture<Map<String, String>> executeTestCaseAsync(CompiledTestCase testCase, ExecutionPlan plan,
+                                                                       Executor executor) {
+        return prerequisiteCache.getOrExecuteAsync(testCase.getTestCaseId(), () -> {
+            Map<String, String> inherited = testCase.getPrerequisite() != null
+                ? executePrerequisite(testCase, plan)
+                : Collections.emptyMap();
+            
+            logger.info("Executing test case: {}", testCase.getTestCaseId());
+            initializeScope(testCase, plan, inherited);
+            PhaseTracer.getInstance().start("test-case").setAttribute("test_case.id", testCase.getTestCaseId());
+            TestCaseRun run = new TestCaseRun(testCase, executor, variableManager.detachScope(), PhaseTracer.getInstance().suspend());
+            run.resume();
+            return run.result;
+        });
+    }
+    
+    /**
+     * Runs the test case again on every call, bypassing the prerequisite cache for the case
+     * itself. Its prerequisites still run once per run and share their extracted variables.
+     */
+    public Map<String, String> executeIteration(CompiledTestCase testCase, ExecutionPlan plan) {
+        Map<String, String> inherited = testCase.getPrerequisite() != null
+            ? executePrerequisite(testCase, plan)
+            : Collections.emptyMap();
+        return runTestCase(testCase, plan, inherited);
+    }
+    
+    private Map<String, String> executePrerequisite(CompiledTestCase testCase, ExecutionPlan plan) {
+        FrameworkEvents.PrerequisiteEvent event = new FrameworkEvents.PrerequisiteEvent();
+        event.begin();
+        try {
+            return executeTestCase(testCase.getPrerequisite(), plan);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.testCaseId = testCase.getTestCaseId();
+                event.prerequisiteId = testCase.getPrerequisite().getTestCaseId();
+                event.commit();
+            }
         }
     }
     
-    public void executeTestCase(TestCase testCase, TestSuite testSuite) {
+    private Map<String, String> runTestCase(CompiledTestCase testCase, ExecutionPlan plan, Map<String, String> inherited) {
         logger.info("Executing test case: {}", testCase.getTestCaseId());
+        initializeScope(testCase, plan, inherited);
         
-        // Initialize test case variables
+        PhaseTracer.Span span = PhaseTracer.getInstance().start("test-case")
+            .setAttribute("test_case.id", testCase.getTestCaseId());
+        try {
+            // Execute test steps
+            for (CompiledStep step : testCase.getSteps()) {
+                executeTestStep(step);
+            }
+            
+            return variableManager.getExtractedVariables();
+        } catch (RuntimeException | Error e) {
+            span.setFailed();
+            throw e;
+        } finally {
+            // Clear test case variables
+            variableManager.clearTestCaseVariables();
+            span.close();
+        }
+    }
+    
+    private void initializeScope(CompiledTestCase testCase, ExecutionPlan plan, Map<String, String> inherited) {
+        // Initialize test case variables, then add whatever the prerequisites extracted
+        Map<String, List<TestData>> testData = plan.getTestSuite().getTestData();
         variableManager.initializeTestCaseVariables(
             testCase.getTestCaseId(), 
-            testSuite.getTestData().get(testCase.getTestCaseId())
+            testData != null ? testData.get(testCase.getTestCaseId()) : null
         );
+        variableManager.seedExtractedVariables(inherited);
+    }
+    
+    /**
+     * A test case run by {@link #executeTestCaseAsync}. Between a failed attempt and its retry, its
+     * variable scope and trace span are detached from any thread.
+     */
+    private final class TestCaseRun {
+        private final CompiledTestCase testCase;
+        private final Executor executor;
+        private final VariableScope scope;
+        private final PhaseTracer.Span span;
+        private final CompletableFuture<Map<String, String>> result = new CompletableFuture<>();
+        private int nextStep;
+        private int attempt = 1;
+        private long stepStartNanos;
         
-        // Execute prerequisite test case if specified
-        if (testCase.getPreRequisite() != null && !testCase.getPreRequisite().isEmpty()) {
-            TestCase prerequisite = testSuite.getTestCases().get(testCase.getPreRequisite());
-            if (prerequisite != null) {
-                executeTestCase(prerequisite, testSuite);
-            }
+        private TestCaseRun(CompiledTestCase testCase, Executor executor, VariableScope scope, PhaseTracer.Span span) {
+            this.testCase = testCase;
+            this.executor = executor;
+            this.scope = scope;
+            this.span = span;
         }
         
-        // Execute test steps
-        for (String stepId : testCase.getTestSteps()) {
-            TestStep testStep = testSuite.getTestSteps().get(stepId);
-            if (testStep != null) {
-                executeTestStep(testStep, testSuite);
+        private void resume() {
+            variableManager.attachScope(scope);
+            PhaseTracer.getInstance().resume(span);
+            boolean suspended = false;
+            try {
+                List<CompiledStep> steps = testCase.getSteps();
+                while (nextStep < steps.size()) {
+                    if (attempt == 1) {
+                        stepStartNanos = System.nanoTime();
+                    }
+                    long backoff = attemptTestStep(steps.get(nextStep), attempt, stepStartNanos);
+                    if (backoff >= 0) {
+                        attempt++;
+                        // Detach before scheduling: the retry may start on another thread right away
+                        PhaseTracer.getInstance().suspend();
+                        variableManager.detachScope();
+                        suspended = true;
+                        retryEngine.schedule(backoff, this::resubmit);
+                        return;
+                    }
+                    nextStep++;
+                    attempt = 1;
+                }
+                result.complete(variableManager.getExtractedVariables());
+            } catch (RuntimeException | Error e) {
+                span.setFailed();
+                result.completeExceptionally(e);
+            } finally {
+                if (!suspended) {
+                    variableManager.clearTestCaseVariables();
+                    span.close();
+                }
             }
         }
         
-        // Clear test case variables
-        variableManager.clearTestCaseVariables();
+        private void resubmit() {
+            try {
+                executor.execute(this::resume);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+    
+    /**
+     * Runs the step, waiting on the calling thread between attempts.
+     */
+    private void executeTestStep(CompiledStep step) {
+        long stepStartNanos = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            long backoff = attemptTestStep(step, attempt, stepStartNanos);
+            if (backoff < 0) {
+                return;
+            }
+            retryEngine.await(backoff);
+        }
     }
     
-    private void executeTestStep(TestStep testStep, TestSuite testSuite) {
-        logger.info("Executing test step: {}", testStep.getStepId());
+    /**
+     * Runs one attempt (1 for the first) of the step. Returns -1 once the step has passed, or the
+     * backoff in nanoseconds before the next attempt if the failure is retryable; other failures
+     * are thrown. The step listener is told about the step after its last attempt.
+     */
+    private long attemptTestStep(CompiledStep step, int attempt, long stepStartNanos) {
+        TestStep testStep = step.getTestStep();
+        if (attempt == 1) {
+            logger.info("Executing test step: {}", testStep.getStepId());
+        } else {
+            logger.info("Retrying test step {}, attempt {}", testStep.getStepId(), attempt);
+        }
+        long start = System.nanoTime();
+        int statusCode = -1;
+        boolean passed = false;
+        long backoff = -1;
+        PhaseTracer.Span span = PhaseTracer.getInstance().start("step")
+            .setAttribute("step.id", testStep.getStepId())
+            .setAttribute("api.name", testStep.getApiName());
+        if (attempt > 1) {
+            span.setAttribute("step.attempt", String.valueOf(attempt));
+        }
+        FrameworkEvents.StepEvent event = new FrameworkEvents.StepEvent();
+        event.begin();
         
         try {
+            if (step.getProblem() != null) {
+                throw new IllegalStateException("Test step " + testStep.getStepId() + " cannot run: " + step.getProblem());
+            }
+            
             // Execute request
-            Response response = requestBuilder.executeRequest(
-                testStep,
-                testSuite.getHeaders(),
-                testSuite.getBodies()
-            );
+            retryEngine.recordRequest();
+            ResponseDocument document;
+            try {
+                document = requestBuilder.executeRequest(step);
+            } catch (RuntimeException e) {
+                apiMetrics.record(step, -1, start, System.nanoTime());
+                backoff = retryEngine.onFailure(step, attempt, e, null);
+                if (backoff >= 0) {
+                    logger.warn("Test step {} failed with {}, retrying in {} ms",
+                        testStep.getStepId(), e.toString(), TimeUnit.NANOSECONDS.toMillis(backoff));
+                    return backoff;
+                }
+                throw e;
+            }
+            long responseNanos = System.nanoTime();
+            Response response = document.getResponse();
+            statusCode = response.getStatusCode();
+            apiMetrics.record(step, statusCode, start, responseNanos);
             
             // Validate response status code
             if (response.getStatusCode() != testStep.getExpectedStatus()) {
+                backoff = retryEngine.onFailure(step, attempt, null, response);
+                if (backoff >= 0) {
+                    logger.warn("Test step {} got status {}, retrying in {} ms",
+                        testStep.getStepId(), statusCode, TimeUnit.NANOSECONDS.toMillis(backoff));
+                    return backoff;
+                }
                 logger.error("Status code mismatch. Expected: {}, Actual: {}", 
                     testStep.getExpectedStatus(), 
                     response.getStatusCode());
@@ -86,12 +399,8 @@ public class TestExecutor {
             }
             
             // Validate assertions if specified
-            if (testStep.getAssertions() != null && !testStep.getAssertions().isEmpty()) {
-                boolean assertionsPassed = assertionEngine.validateAssertions(
-                    response,
-                    testStep.getAssertions(),
-                    testSuite.getAssertions()
-                );
+            if (!step.getAssertions().isEmpty()) {
+                boolean assertionsPassed = assertionEngine.validateAssertions(document, step.getAssertions());
                 
                 if (!assertionsPassed) {
                     throw new AssertionError("Assertions failed");
@@ -100,21 +409,84 @@ public class TestExecutor {
             
             // Save response if required
             if (testStep.isSaveResponse()) {
-                saveResponse(response, testStep.getStepId());
+                saveResponse(testStep, response, start, responseNanos);
             }
+            passed = true;
+            return -1;
             
-        } catch (Exception e) {
+        } catch (Exception | AssertionError e) {
             logger.error("Test step {} failed", testStep.getStepId(), e);
             throw e;
         } finally {
             // Clear step variables
             variableManager.clearStepVariables();
+            if (!passed) {
+                span.setFailed();
+            }
+            span.close();
+            
+            event.end();
+            if (event.shouldCommit()) {
+                event.testCaseId = variableManager.getCurrentScope().getTestCaseId();
+                event.stepId = testStep.getStepId();
+                event.apiName = testStep.getApiName();
+                event.statusCode = statusCode;
+                event.attempt = attempt;
+                event.passed = passed;
+                event.commit();
+            }
+            
+            if (backoff >= 0) {
+                apiMetrics.recordRetry(step);
+            }
+            StepListener listener = stepListener;
+            if (listener != null) {
+                if (backoff >= 0) {
+                    listener.onStepRetried(testStep, attempt, statusCode);
+                } else {
+                    listener.onStepCompleted(testStep, statusCode, stepStartNanos, System.nanoTime(), passed);
+                }
+            }
         }
     }
     
-    private void saveResponse(Response response, String stepId) {
-        // Implementation for saving response would go here
-        // This could save to a file, database, or other storage
-        logger.info("Response for step {}: {}", stepId, response.asString());
+    /**
+     * Logs and writes the run reports: API latency, phase timings and connection pool statistics.
+     * Also closes the response archive, so the next run starts a new one.
+     */
+    public void logRunSummary() {
+        File reportDir = new File(ConfigUtil.getProperty("test.report.dir", "target/test-reports"));
+        apiMetrics.report(reportDir);
+        PhaseTracer.getInstance().report(reportDir);
+        retryEngine.logStatistics();
+        HttpClientPool.getInstance().logStatistics();
+        if (ConnectionPool.isDefaultInitialized()) {
+            ConnectionPool.getDefault().logStatistics();
+        }
+        
+        ResponseArchive archive;
+        synchronized (this) {
+            archive = responseArchive;
+            responseArchive = null;
+        }
+        if (archive != null) {
+            archive.close();
+        }
+    }
+    
+    private void saveResponse(TestStep testStep, Response response, long startNanos, long responseNanos) {
+        StringBuilder headers = new StringBuilder();
+        for (Header header : response.getHeaders()) {
+            headers.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        long startedAtMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        
+        // The body is already in memory; compression and disk I/O happen on the archive's writer thread
+        ResponseArchive archive = getResponseArchive();
+        if (archive.submit(new ArchivedResponse(variableManager.getCurrentScope().getTestCaseId(), testStep.getStepId(),
+                response.getStatusCode(), startedAtMillis, responseNanos - startNanos, headers.toString(),
+                response.asByteArray()))) {
+            logger.debug("Queued response of step {} for archive {}", testStep.getStepId(), archive.getRunId());
+        }
     }
 } 
\ No newline at end of file
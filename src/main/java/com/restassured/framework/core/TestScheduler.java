@@ -0,0 +1,157 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.TestCase;
+import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs the executable test cases of a suite on a worker pool. A test case is started
+ * only after its prerequisite has passed; if the prerequisite fails, its dependents are skipped.
+ * In virtual-thread mode each test case gets its own virtual thread, up to a concurrency cap.
+ * A test case waiting to retry a step holds no worker.
+ */
+public class TestScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(TestScheduler.class);
+
+    public enum Outcome { PASSED, FAILED, SKIPPED }
+
+    private final TestExecutor testExecutor;
+    private final int threads;
+    private final boolean virtualThreads;
+    private final int maxVirtualConcurrency;
+
+    public TestScheduler(TestExecutor testExecutor, int threads) {
+        this(testExecutor, threads, false, 0);
+    }
+
+    /**
+     * @param threads platform workers, also used when virtual threads are requested but unavailable
+     * @param maxVirtualConcurrency most test cases running at once in virtual-thread mode
+     */
+    public TestScheduler(TestExecutor testExecutor, int threads, boolean virtualThreads, int maxVirtualConcurrency) {
+        this.testExecutor = testExecutor;
+        this.threads = Math.max(1, threads);
+        this.virtualThreads = virtualThreads;
+        this.maxVirtualConcurrency = Math.max(1, maxVirtualConcurrency);
+    }
+
+    public Map<String, Outcome> execute(TestSuite testSuite) {
+        TestDependencyGraph graph = TestDependencyGraph.build(testSuite);
+        Map<String, Outcome> outcomes = new ConcurrentHashMap<>();
+        Map<String, CompletableFuture<Void>> scheduled = new HashMap<>();
+
+        WorkerPool pool = virtualThreads
+            ? WorkerPool.virtual(maxVirtualConcurrency, threads, "test-vworker-")
+            : WorkerPool.platform(threads, "test-worker-");
+        PinningMonitor pinningMonitor = pool.isVirtual()
+            ? PinningMonitor.start(ConfigUtil.getLongProperty("test.virtual.pinning.threshold", 20))
+            : null;
+
+        if (pool.isVirtual()) {
+            logger.info("Starting parallel test suite execution on virtual threads, at most {} at once", maxVirtualConcurrency);
+        } else {
+            logger.info("Starting parallel test suite execution with {} worker(s)", threads);
+        }
+        try {
+            for (TestCase testCase : testSuite.getTestCases().values()) {
+                if (!testCase.isExecute()) {
+                    logger.info("Skipping test case {} as it is marked for non-execution", testCase.getTestCaseId());
+                    continue;
+                }
+                schedule(testCase.getTestCaseId(), testSuite, graph, scheduled, outcomes, pool);
+            }
+
+            CompletableFuture.allOf(scheduled.values().toArray(new CompletableFuture[0]))
+                .exceptionally(e -> null)
+                .join();
+        } finally {
+            pool.shutdown();
+            if (pinningMonitor != null) {
+                pinningMonitor.close();
+            }
+        }
+
+        logSummary(outcomes);
+        return outcomes;
+    }
+
+    private CompletableFuture<Void> schedule(String testCaseId, TestSuite testSuite, TestDependencyGraph graph,
+                                             Map<String, CompletableFuture<Void>> scheduled,
+                                             Map<String, Outcome> outcomes, WorkerPool pool) {
+        CompletableFuture<Void> existing = scheduled.get(testCaseId);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Prerequisites are scheduled even when they are not marked for execution themselves
+        String prerequisiteId = graph.getPrerequisite(testCaseId);
+        CompletableFuture<Void> prerequisite = prerequisiteId != null
+            ? schedule(prerequisiteId, testSuite, graph, scheduled, outcomes, pool)
+            : CompletableFuture.completedFuture(null);
+
+        TestCase testCase = testSuite.getTestCases().get(testCaseId);
+        CompletableFuture<Void> future = prerequisite
+            .handle((ignored, prerequisiteFailure) -> prerequisiteFailure)
+            .thenComposeAsync(prerequisiteFailure -> {
+                if (prerequisiteFailure != null) {
+                    logger.warn("Skipping test case {} because prerequisite {} did not pass", testCaseId, prerequisiteId);
+                    outcomes.put(testCaseId, Outcome.SKIPPED);
+                    return CompletableFuture.<Void>failedFuture(
+                        new IllegalStateException("Prerequisite " + prerequisiteId + " did not pass"));
+                }
+                // Runs on this worker until a step has to wait for a retry, then frees it
+                return testExecutor.executeTestCaseAsync(testCase, testSuite, pool).handle((variables, failure) -> {
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+                    if (cause == null) {
+                        outcomes.put(testCaseId, Outcome.PASSED);
+                        return null;
+                    }
+                    if (cause instanceof PrerequisiteFailedException) {
+                        logger.warn("Skipping test case {}: {}", testCaseId, cause.getMessage());
+                        outcomes.put(testCaseId, Outcome.SKIPPED);
+                    } else {
+                        logger.error("Test case {} failed", testCaseId, cause);
+                        outcomes.put(testCaseId, Outcome.FAILED);
+                    }
+                    throw new CompletionException(cause);
+                });
+            }, pool);
+
+        scheduled.put(testCaseId, future);
+        return future;
+    }
+
+    private void logSummary(Map<String, Outcome> outcomes) {
+        List<String> failed = new ArrayList<>();
+        int passed = 0;
+        int skipped = 0;
+        for (Map.Entry<String, Outcome> entry : outcomes.entrySet()) {
+            switch (entry.getValue()) {
+                case PASSED:
+                    passed++;
+                    break;
+                case SKIPPED:
+                    skipped++;
+                    break;
+                default:
+                    failed.add(entry.getKey());
+            }
+        }
+        logger.info("Parallel execution finished: {} passed, {} failed, {} skipped", passed, failed.size(), skipped);
+        if (!failed.isEmpty()) {
+            logger.error("Failed test cases: {}", failed);
+        }
+    }
+}
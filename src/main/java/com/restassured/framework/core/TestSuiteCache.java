@@ -0,0 +1,446 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.Assertion;
+import com.restassured.framework.model.DbSeed;
+import com.restassured.framework.model.Header;
+import com.restassured.framework.model.TestCase;
+import com.restassured.framework.model.TestData;
+import com.restassured.framework.model.TestStep;
+import com.restassured.framework.model.TestSuite;
+import com.restassured.framework.util.ConfigUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Binary snapshot of a parsed {@link TestSuite}, stored per source file (by canonical path) and
+ * keyed by the SHA-256 of the source content and of the settings that affect parsing, and by the
+ * snapshot format version. A snapshot that does not match is ignored and rewritten after the
+ * next full parse.
+ */
+public class TestSuiteCache {
+    private static final Logger logger = LoggerFactory.getLogger(TestSuiteCache.class);
+    private static final int MAGIC = 0x52535543;
+    // 3: cells are converted by ExcelCellFormatter
+    private static final int FORMAT_VERSION = 3;
+    private static final int HASH_LENGTH = 32;
+    private static final int NULL_LENGTH = -1;
+
+    private final boolean enabled;
+    private final Path cacheDir;
+
+    public TestSuiteCache() {
+        this(ConfigUtil.getBooleanProperty("test.suite.cache.enabled", true),
+            ConfigUtil.getProperty("test.suite.cache.dir", "build/suite-cache"));
+    }
+
+    /**
+     * @param cacheDir directory for snapshots; an empty value stores them next to the source file
+     */
+    public TestSuiteCache(boolean enabled, String cacheDir) {
+        this.enabled = enabled;
+        this.cacheDir = cacheDir == null || cacheDir.isEmpty() ? null : Paths.get(cacheDir);
+    }
+
+    /**
+     * Returns the cached suite for the source file, or null if there is no up-to-date snapshot.
+     */
+    public TestSuite load(File source) {
+        if (!enabled) {
+            return null;
+        }
+        Path snapshot = snapshotPath(source);
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 + HASH_LENGTH || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                logger.debug("Ignoring suite snapshot {} written by another format version", snapshot);
+                return null;
+            }
+            byte[] storedHash = new byte[HASH_LENGTH];
+            buffer.get(storedHash);
+            if (!Arrays.equals(storedHash, hash(source))) {
+                logger.debug("Ignoring stale suite snapshot {}", snapshot);
+                return null;
+            }
+
+            TestSuite testSuite = readSuite(buffer);
+            logger.info("Loaded test suite from snapshot {}", snapshot);
+            return testSuite;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to read suite snapshot {}, parsing the source instead", snapshot, e);
+            return null;
+        }
+    }
+
+    public void store(File source, TestSuite testSuite) {
+        if (!enabled) {
+            return;
+        }
+        Path snapshot = snapshotPath(source);
+        try {
+            Files.createDirectories(snapshot.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(snapshot.toAbsolutePath().getParent(), snapshot.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.write(hash(source));
+                writeSuite(out, testSuite);
+            }
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Wrote suite snapshot {}", snapshot);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to write suite snapshot {}", snapshot, e);
+        }
+    }
+
+    private Path snapshotPath(File source) {
+        if (cacheDir != null) {
+            // Suites with the same file name in different directories get their own snapshots
+            String path;
+            try {
+                path = source.getCanonicalPath();
+            } catch (IOException e) {
+                path = source.getAbsolutePath();
+            }
+            byte[] pathHash = sha256().digest(path.getBytes(StandardCharsets.UTF_8));
+            return cacheDir.resolve(source.getName() + "-" + HexFormat.of().formatHex(pathHash, 0, 8) + ".suitecache");
+        }
+        File parent = source.getAbsoluteFile().getParentFile();
+        return parent.toPath().resolve("." + source.getName() + ".suitecache");
+    }
+
+    private static byte[] hash(File source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+            MessageDigest digest = sha256();
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long chunk = Math.min(size - position, Integer.MAX_VALUE);
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, chunk));
+                position += chunk;
+            }
+            digest.update(parseSettings(source).getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        }
+    }
+
+    /**
+     * Settings under which the same source can parse differently: the .xlsx reader chosen by
+     * test.excel.streaming.threshold, and the locale numbers and dates are formatted in.
+     */
+    private static String parseSettings(File source) {
+        return "\nstreaming=" + ExcelDataReader.usesStreamingReader(source)
+            + "\nlocale=" + Locale.getDefault().toLanguageTag();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void writeSuite(DataOutputStream out, TestSuite testSuite) throws IOException {
+        Map<String, TestCase> testCases = testSuite.getTestCases();
+        writeSize(out, testCases);
+        if (testCases != null) {
+            for (TestCase testCase : testCases.values()) {
+                writeString(out, testCase.getTestCaseId());
+                writeString(out, testCase.getTestCaseName());
+                writeString(out, testCase.getDescription());
+                out.writeBoolean(testCase.isExecute());
+                writeString(out, testCase.getPreRequisite());
+                writeStrings(out, testCase.getTestSteps());
+            }
+        }
+
+        Map<String, TestStep> testSteps = testSuite.getTestSteps();
+        writeSize(out, testSteps);
+        if (testSteps != null) {
+            for (TestStep testStep : testSteps.values()) {
+                writeString(out, testStep.getStepId());
+                writeString(out, testStep.getApiName());
+                writeString(out, testStep.getMethod());
+                writeString(out, testStep.getEndpoint());
+                writeString(out, testStep.getHeaders());
+                writeString(out, testStep.getBody());
+                writeString(out, testStep.getExtractVars());
+                out.writeInt(testStep.getExpectedStatus());
+                writeString(out, testStep.getAssertions());
+                out.writeBoolean(testStep.isSaveResponse());
+            }
+        }
+
+        Map<String, List<Assertion>> assertions = testSuite.getAssertions();
+        writeSize(out, assertions);
+        if (assertions != null) {
+            for (Map.Entry<String, List<Assertion>> entry : assertions.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (Assertion assertion : entry.getValue()) {
+                    writeString(out, assertion.getAssertionId());
+                    writeString(out, assertion.getValidationType());
+                    writeString(out, assertion.getValidationInputType());
+                    writeString(out, assertion.getExpected());
+                    writeString(out, assertion.getActual());
+                }
+            }
+        }
+
+        Map<String, List<Header>> headers = testSuite.getHeaders();
+        writeSize(out, headers);
+        if (headers != null) {
+            for (Map.Entry<String, List<Header>> entry : headers.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (Header header : entry.getValue()) {
+                    writeString(out, header.getHeaderId());
+                    writeString(out, header.getKey());
+                    writeString(out, header.getValue());
+                }
+            }
+        }
+
+        Map<String, String> bodies = testSuite.getBodies();
+        writeSize(out, bodies);
+        if (bodies != null) {
+            for (Map.Entry<String, String> entry : bodies.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        }
+
+        Map<String, List<TestData>> testData = testSuite.getTestData();
+        writeSize(out, testData);
+        if (testData != null) {
+            for (Map.Entry<String, List<TestData>> entry : testData.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (TestData data : entry.getValue()) {
+                    writeString(out, data.getTestCaseId());
+                    writeString(out, data.getVarName());
+                    writeString(out, data.getValue());
+                }
+            }
+        }
+
+        Map<String, List<DbSeed>> dbSeeds = testSuite.getDbSeeds();
+        writeSize(out, dbSeeds);
+        if (dbSeeds != null) {
+            for (Map.Entry<String, List<DbSeed>> entry : dbSeeds.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (DbSeed seed : entry.getValue()) {
+                    writeString(out, seed.getTableName());
+                    writeString(out, seed.getDependsOn());
+                    writeString(out, seed.getColumns());
+                    writeString(out, seed.getValues());
+                }
+            }
+        }
+    }
+
+    private TestSuite readSuite(ByteBuffer in) {
+        TestSuite testSuite = new TestSuite();
+
+        int count = in.getInt();
+        if (count != NULL_LENGTH) {
+            Map<String, TestCase> testCases = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                TestCase testCase = new TestCase();
+                testCase.setTestCaseId(readString(in));
+                testCase.setTestCaseName(readString(in));
+                testCase.setDescription(readString(in));
+                testCase.setExecute(in.get() != 0);
+                testCase.setPreRequisite(readString(in));
+                testCase.setTestSteps(readStrings(in));
+                testCases.put(testCase.getTestCaseId(), testCase);
+            }
+            testSuite.setTestCases(testCases);
+        }
+
+        count = in.getInt();
+        if (count != NULL_LENGTH) {
+            Map<String, TestStep> testSteps = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                TestStep testStep = new TestStep();
+                testStep.setStepId(readString(in));
+                testStep.setApiName(readString(in));
+                testStep.setMethod(readString(in));
+                testStep.setEndpoint(readString(in));
+                testStep.setHeaders(readString(in));
+                testStep.setBody(readString(in));
+                testStep.setExtractVars(readString(in));
+                testStep.setExpectedStatus(in.getInt());
+                testStep.setAssertions(readString(in));
+                testStep.setSaveResponse(in.get() != 0);
+                testSteps.put(testStep.getStepId(), testStep);
+            }
+            testSuite.setTestSteps(testSteps);
+        }
+
+        count = in.getInt();
+        if (count != NULL_LENGTH) {
+            Map<String, List<Assertion>> assertions = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+                int size = in.getInt();
+                List<Assertion> list = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    Assertion assertion = new Assertion();
+                    assertion.setAssertionId(readString(in));
+                    assertion.setValidationType(readString(in));
+                    assertion.setValidationInputType(readString(in));
+                    assertion.setExpected(readString(in));
+                    assertion.setActual(readString(in));
+                    list.add(assertion);
+                }
+                assertions.put(key, list);
+            }
+            testSuite.setAssertions(assertions);
+        }
+
+        count = in.getInt();
+        if (count != NULL_LENGTH) {
+            Map<String, List<Header>> headers = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+                int size = in.getInt();
+                List<Header> list = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    Header header = new Header();
+                    header.setHeaderId(readString(in));
+                    header.setKey(readString(in));
+                    header.setValue(readString(in));
+                    list.add(header);
+                }
+                headers.put(key, list);
+            }
+            testSuite.setHeaders(headers);
+        }
+
+        count = in.getInt();
+        if (count != NULL_LENGTH) {
+            Map<String, String> bodies = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                bodies.put(readString(in), readString(in));
+            }
+            testSuite.setBodies(bodies);
+        }
+
+        count = in.getInt();
+        if (count != NULL_LENGTH) {
+            Map<String, List<TestData>> testData = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+                int size = in.getInt();
+                List<TestData> list = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    TestData data = new TestData();
+                    data.setTestCaseId(readString(in));
+                    data.setVarName(readString(in));
+                    data.setValue(readString(in));
+                    list.add(data);
+                }
+                testData.put(key, list);
+            }
+            testSuite.setTestData(testData);
+        }
+
+        count = in.getInt();
+        if (count != NULL_LENGTH) {
+            Map<String, List<DbSeed>> dbSeeds = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+                int size = in.getInt();
+                List<DbSeed> list = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    DbSeed seed = new DbSeed();
+                    seed.setTableName(readString(in));
+                    seed.setDependsOn(readString(in));
+                    seed.setColumns(readString(in));
+                    seed.setValues(readString(in));
+                    list.add(seed);
+                }
+                dbSeeds.put(key, list);
+            }
+            testSuite.setDbSeeds(dbSeeds);
+        }
+
+        return testSuite;
+    }
+
+    private static void writeSize(DataOutputStream out, Map<?, ?> map) throws IOException {
+        out.writeInt(map != null ? map.size() : NULL_LENGTH);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer in) {
+        int size = in.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
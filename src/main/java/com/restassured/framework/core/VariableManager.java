@@ -4,86 +4,153 @@ import com.restassured.framework.model.TestData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class VariableManager {
     private static final Logger logger = LoggerFactory.getLogger(VariableManager.class);
-    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{(.*?)\\}\\}");
-    private static final Pattern FUNCTION_PATTERN = Pattern.compile("\\{\\{\\$(.*?)\\((.*?)\\)\\}\\}");
+    private static final int MAX_CACHED_TEMPLATES = 10_000;
+    private static final int MAX_RETAINED_BUFFER = 1 << 20;
+    private static final Map<String, Template> templateCache = new ConcurrentHashMap<>();
+    private static final ThreadLocal<StringBuilder> renderBuffer = ThreadLocal.withInitial(() -> new StringBuilder(1024));
     
-    private final Map<String, String> globalVariables;
-    private final Map<String, String> testCaseVariables;
-    private final Map<String, String> stepVariables;
+    // Global variables are replaced wholesale on write so readers never need a lock
+    private volatile Map<String, String> globalVariables;
+    private final ThreadLocal<VariableScope> currentScope;
     
     public VariableManager() {
-        this.globalVariables = new HashMap<>();
-        this.testCaseVariables = new HashMap<>();
-        this.stepVariables = new HashMap<>();
+        this.globalVariables = Collections.emptyMap();
+        this.currentScope = new ThreadLocal<>();
     }
     
+    /**
+     * Opens a fresh scope for the test case on the calling thread.
+     */
     public void initializeTestCaseVariables(String testCaseId, List<TestData> testData) {
-        testCaseVariables.clear();
-        stepVariables.clear();
+        VariableScope scope = new VariableScope(testCaseId, globalVariables);
         
         if (testData != null) {
             for (TestData data : testData) {
                 if (testCaseId.equals(data.getTestCaseId())) {
-                    testCaseVariables.put(data.getVarName(), data.getValue());
+                    scope.setTestCaseVariable(data.getVarName(), data.getValue());
                 }
             }
         }
+        currentScope.set(scope);
+    }
+    
+    public VariableScope getCurrentScope() {
+        VariableScope scope = currentScope.get();
+        if (scope == null) {
+            scope = new VariableScope(null, globalVariables);
+            currentScope.set(scope);
+        }
+        return scope;
+    }
+    
+    /**
+     * Removes the calling thread's scope and returns it, so the test case can continue on another thread.
+     */
+    VariableScope detachScope() {
+        VariableScope scope = currentScope.get();
+        currentScope.remove();
+        return scope;
+    }
+    
+    void attachScope(VariableScope scope) {
+        currentScope.set(scope);
+    }
+    
+    public synchronized void setGlobalVariable(String name, String value) {
+        Map<String, String> updated = new HashMap<>(globalVariables);
+        updated.put(name, value);
+        globalVariables = Collections.unmodifiableMap(updated);
     }
     
     public void setStepVariable(String name, String value) {
-        stepVariables.put(name, value);
+        getCurrentScope().setStepVariable(name, value);
+    }
+    
+    /**
+     * Stores a value extracted from a response. It stays visible to the remaining steps of the
+     * test case and is part of the snapshot handed to dependent test cases.
+     */
+    public void setExtractedVariable(String name, String value) {
+        getCurrentScope().setExtractedVariable(name, value);
+    }
+    
+    /**
+     * Seeds the variables extracted by a prerequisite. Test data of the current test case wins on conflicts.
+     */
+    public void seedExtractedVariables(Map<String, String> variables) {
+        getCurrentScope().seedExtractedVariables(variables);
+    }
+    
+    public Map<String, String> getExtractedVariables() {
+        return getCurrentScope().getExtractedVariables();
     }
     
     public String substituteVariables(String input) {
-        if (input == null) {
-            return null;
+        if (input == null || !input.contains("{{")) {
+            return input;
         }
-        
-        String result = input;
-        Matcher matcher = VARIABLE_PATTERN.matcher(result);
-        
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            String value = getVariableValue(variableName);
-            
-            if (value != null) {
-                result = result.replace("{{" + variableName + "}}", value);
+        return render(compile(input));
+    }
+    
+    /**
+     * Returns the parsed form of a template, compiling it on first use.
+     */
+    public Template compile(String input) {
+        Template template = templateCache.get(input);
+        if (template == null) {
+            template = Template.compile(input);
+            if (templateCache.size() < MAX_CACHED_TEMPLATES) {
+                templateCache.putIfAbsent(input, template);
             }
         }
-        
-        return result;
+        return template;
     }
     
-    private String getVariableValue(String variableName) {
-        // Check for function calls
-        Matcher functionMatcher = FUNCTION_PATTERN.matcher(variableName);
-        if (functionMatcher.matches()) {
-            String functionName = functionMatcher.group(1);
-            String parameters = functionMatcher.group(2);
-            return executeFunction(functionName, parameters);
+    public String render(Template template) {
+        if (template.isConstant()) {
+            return template.getSource();
         }
         
-        // Check variables in order of precedence
-        String value = stepVariables.get(variableName);
-        if (value != null) return value;
+        StringBuilder buffer = renderBuffer.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(template.getLiteralLength() + 64);
         
-        value = testCaseVariables.get(variableName);
-        if (value != null) return value;
-        
-        value = globalVariables.get(variableName);
-        if (value != null) return value;
+        VariableScope scope = getCurrentScope();
+        for (Template.Segment segment : template.getSegments()) {
+            String value;
+            switch (segment.kind) {
+                case LITERAL:
+                    buffer.append(segment.text);
+                    continue;
+                case FUNCTION:
+                    // Evaluated per occurrence, so two {{$randomUUID()}} placeholders get different values
+                    value = executeFunction(segment.name, segment.arguments);
+                    break;
+                default:
+                    value = scope.resolve(segment.name);
+                    if (value == null) {
+                        logger.warn("Variable {} not found in any scope", segment.name);
+                    }
+            }
+            // Unresolved placeholders are left in place
+            buffer.append(value != null ? value : segment.text);
+        }
         
-        logger.warn("Variable {} not found in any scope", variableName);
-        return null;
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            renderBuffer.remove();
+        }
+        return result;
     }
     
     private String executeFunction(String functionName, String parameters) {
@@ -93,7 +160,7 @@ public class VariableManager {
             case "timestamp":
                 return String.valueOf(System.currentTimeMillis());
             case "randomstring":
-                int length = parameters.isEmpty() ? 10 : Integer.parseInt(parameters);
+                int length = parameters.isEmpty() ? 10 : Integer.parseInt(parameters.trim());
                 return generateRandomString(length);
             default:
                 logger.warn("Unknown function: {}", functionName);
@@ -103,26 +170,28 @@ public class VariableManager {
     
     private String generateRandomString(int length) {
         String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-        StringBuilder sb = new StringBuilder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder sb = new StringBuilder(length);
         for (int i = 0; i < length; i++) {
-            int index = (int) (Math.random() * chars.length());
+            int index = random.nextInt(chars.length());
             sb.append(chars.charAt(index));
         }
         return sb.toString();
     }
     
     public void clearStepVariables() {
-        stepVariables.clear();
+        VariableScope scope = currentScope.get();
+        if (scope != null) {
+            scope.clearStepVariables();
+        }
     }
     
     public void clearTestCaseVariables() {
-        testCaseVariables.clear();
-        stepVariables.clear();
+        currentScope.remove();
     }
     
-    public void clearAllVariables() {
-        globalVariables.clear();
-        testCaseVariables.clear();
-        stepVariables.clear();
+    public synchronized void clearAllVariables() {
+        globalVariables = Collections.emptyMap();
+        currentScope.remove();
     }
-} 
\ No newline at end of file
+}
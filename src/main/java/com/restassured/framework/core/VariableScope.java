@@ -0,0 +1,64 @@
+package com.restassured.framework.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Variables of a single test case execution, resolved step, then test case, then global.
+ * A scope is owned by one thread at a time; the global layer is an immutable snapshot
+ * shared by every scope, so it can be read without locking.
+ */
+public class VariableScope {
+    private final String testCaseId;
+    private final Map<String, String> globalVariables;
+    private final Map<String, String> testCaseVariables = new HashMap<>();
+    private final Map<String, String> stepVariables = new HashMap<>();
+    private final Map<String, String> extractedVariables = new HashMap<>();
+
+    VariableScope(String testCaseId, Map<String, String> globalVariables) {
+        this.testCaseId = testCaseId;
+        this.globalVariables = globalVariables;
+    }
+
+    public String getTestCaseId() {
+        return testCaseId;
+    }
+
+    public String resolve(String name) {
+        String value = stepVariables.get(name);
+        if (value != null) return value;
+
+        value = testCaseVariables.get(name);
+        if (value != null) return value;
+
+        return globalVariables.get(name);
+    }
+
+    public void setTestCaseVariable(String name, String value) {
+        testCaseVariables.put(name, value);
+    }
+
+    public void setStepVariable(String name, String value) {
+        stepVariables.put(name, value);
+    }
+
+    public void setExtractedVariable(String name, String value) {
+        testCaseVariables.put(name, value);
+        extractedVariables.put(name, value);
+    }
+
+    public void seedExtractedVariables(Map<String, String> variables) {
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            testCaseVariables.putIfAbsent(entry.getKey(), entry.getValue());
+            extractedVariables.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public Map<String, String> getExtractedVariables() {
+        return new HashMap<>(extractedVariables);
+    }
+
+    public void clearStepVariables() {
+        stepVariables.clear();
+    }
+}
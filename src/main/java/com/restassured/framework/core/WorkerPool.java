@@ -0,0 +1,123 @@
+package com.restassured.framework.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor for test workers: either a fixed pool of platform threads, or one virtual thread per
+ * task with a cap on how many run at once. Virtual threads are created reflectively because the
+ * build targets Java 17; on a JDK without them the platform pool is used instead.
+ */
+final class WorkerPool implements Executor {
+    private static final Logger logger = LoggerFactory.getLogger(WorkerPool.class);
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final boolean virtual;
+
+    private WorkerPool(ExecutorService executor, Semaphore permits, boolean virtual) {
+        this.executor = executor;
+        this.permits = permits;
+        this.virtual = virtual;
+    }
+
+    static WorkerPool platform(int threads, String namePrefix) {
+        return new WorkerPool(Executors.newFixedThreadPool(Math.max(1, threads), new PlatformThreadFactory(namePrefix)), null, false);
+    }
+
+    /**
+     * One virtual thread per task, at most {@code maxConcurrency} running at once. Falls back to a
+     * platform pool of {@code fallbackThreads} when the JDK has no virtual threads.
+     */
+    static WorkerPool virtual(int maxConcurrency, int fallbackThreads, String namePrefix) {
+        ThreadFactory factory = virtualThreadFactory(namePrefix);
+        if (factory == null) {
+            logger.warn("Virtual threads are not available on Java {}; using {} platform worker(s)",
+                System.getProperty("java.specification.version"), fallbackThreads);
+            return platform(fallbackThreads, namePrefix);
+        }
+        ExecutorService executor = newThreadPerTaskExecutor(factory);
+        if (executor == null) {
+            return platform(fallbackThreads, namePrefix);
+        }
+        return new WorkerPool(executor, new Semaphore(Math.max(1, maxConcurrency)), true);
+    }
+
+    private static ThreadFactory virtualThreadFactory(String namePrefix) {
+        try {
+            // Thread.ofVirtual().name(prefix, 1).factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Absent before Java 19, and a preview API that throws without --enable-preview on 19 and 20
+            logger.debug("Virtual thread factory unavailable", e);
+            return null;
+        }
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor(ThreadFactory factory) {
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warn("Could not create a virtual thread executor", e);
+            return null;
+        }
+    }
+
+    boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (permits == null) {
+            executor.execute(task);
+            return;
+        }
+        // Waiting for a permit parks the virtual thread, which costs no carrier thread
+        executor.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    private static class PlatformThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String namePrefix;
+
+        private PlatformThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.restassured.framework.core;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads an .xlsx workbook with the XSSF event model, one row at a time, without building
+ * the POI DOM. Only the shared-strings table and the current row are held in memory.
+ * The first row of every sheet is treated as the header row and skipped. Cell values are
+ * converted by {@link ExcelCellFormatter}, as in the DOM reader.
+ */
+class XlsxStreamingReader {
+    private final ExcelCellFormatter cellFormatter = new ExcelCellFormatter();
+
+    /**
+     * Hands every data row to the consumer as (sheet name, cell values); missing cells are empty strings.
+     */
+    void read(File file, BiConsumer<String, String[]> rowConsumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader reader = new XSSFReader(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    String sheetName = sheets.getSheetName();
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    RowCollector collector = new RowCollector(sheetName, rowConsumer, cellFormatter);
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            styles, strings, collector, cellFormatter.getDataFormatter(), false) {
+                        @Override
+                        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                                throws SAXException {
+                            // POI reports booleans and errors as display text; keep the type for the formatter
+                            if ("c".equals(localName)) {
+                                collector.cellType = attributes.getValue("t");
+                            }
+                            super.startElement(uri, localName, qName, attributes);
+                        }
+                    });
+                    parser.parse(new InputSource(sheet));
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to stream workbook " + file.getName(), e);
+        }
+    }
+
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final String sheetName;
+        private final BiConsumer<String, String[]> rowConsumer;
+        private final ExcelCellFormatter cellFormatter;
+        private final List<String> cells = new ArrayList<>();
+        private boolean headerSeen;
+        private String cellType;
+
+        private RowCollector(String sheetName, BiConsumer<String, String[]> rowConsumer, ExcelCellFormatter cellFormatter) {
+            this.sheetName = sheetName;
+            this.rowConsumer = rowConsumer;
+            this.cellFormatter = cellFormatter;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!headerSeen) {
+                headerSeen = true;
+                return;
+            }
+            rowConsumer.accept(sheetName, cells.toArray(new String[0]));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(cellFormatter.formatStreamed(cellType, formattedValue));
+        }
+    }
+}
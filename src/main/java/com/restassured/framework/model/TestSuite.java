@@ -10,6 +10,7 @@ public class TestSuite {
     private Map<String, List<Header>> headers;
     private Map<String, String> bodies;
     private Map<String, List<TestData>> testData;
+    private Map<String, List<DbSeed>> dbSeeds;
 
     public Map<String, TestCase> getTestCases() {
         return testCases;
@@ -58,4 +59,12 @@ public class TestSuite {
     public void setTestData(Map<String, List<TestData>> testData) {
         this.testData = testData;
     }
+
+    public Map<String, List<DbSeed>> getDbSeeds() {
+        return dbSeeds;
+    }
+
+    public void setDbSeeds(Map<String, List<DbSeed>> dbSeeds) {
+        this.dbSeeds = dbSeeds;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,266 @@
+package com.restassured.framework.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded JDBC connection pool. Connections are opened on demand and checked with
+ * {@link Connection#isValid(int)} when they have sat idle longer than the validation interval.
+ * Each pooled connection keeps an LRU cache of prepared statements, so repeated queries are
+ * parsed by the database only once per connection.
+ */
+public class ConnectionPool {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+    private static volatile ConnectionPool defaultPool;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long acquireTimeoutMillis;
+    private final int statementCacheSize;
+    private final long validationIntervalNanos;
+    private final int validationTimeoutSeconds;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
+    private final LongAccumulator maxQueryNanos = new LongAccumulator(Math::max, 0);
+
+    public ConnectionPool(String url, String user, String password, int maxSize, long acquireTimeoutMillis,
+                          int statementCacheSize, long validationIntervalMillis, int validationTimeoutSeconds) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(validationIntervalMillis);
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * The pool for the db.* settings in application.properties, created on first use.
+     */
+    public static ConnectionPool getDefault() {
+        ConnectionPool pool = defaultPool;
+        if (pool == null) {
+            synchronized (ConnectionPool.class) {
+                pool = defaultPool;
+                if (pool == null) {
+                    pool = createDefault();
+                    defaultPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    public static boolean isDefaultInitialized() {
+        return defaultPool != null;
+    }
+
+    private static ConnectionPool createDefault() {
+        String driver = ConfigUtil.getProperty("db.driver");
+        if (driver != null && !driver.isEmpty()) {
+            try {
+                Class.forName(driver);
+            } catch (ClassNotFoundException e) {
+                logger.error("Database driver {} not found", driver, e);
+            }
+        }
+        ConnectionPool pool = new ConnectionPool(
+            ConfigUtil.getProperty("db.url"),
+            ConfigUtil.getProperty("db.user"),
+            ConfigUtil.getProperty("db.password", ""),
+            ConfigUtil.getIntProperty("db.pool.max.size", 10),
+            ConfigUtil.getLongProperty("db.pool.acquire.timeout", 30000),
+            ConfigUtil.getIntProperty("db.pool.statement.cache.size", 50),
+            ConfigUtil.getLongProperty("db.pool.validation.interval", 30000),
+            ConfigUtil.getIntProperty("db.pool.validation.timeout", 5)
+        );
+        logger.info("Database connection pool for {}: max size {}", pool.url, pool.maxSize);
+        return pool;
+    }
+
+    /**
+     * Leases a connection, waiting up to the acquire timeout. Close the result to return it.
+     */
+    public PooledConnection borrow() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + acquireTimeoutMillis + " ms waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        long waited = System.nanoTime() - start;
+        borrows.increment();
+        waitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+
+        try {
+            PooledConnection connection;
+            while ((connection = idle.pollFirst()) != null) {
+                if (isHealthy(connection)) {
+                    connection.released.set(false);
+                    return connection;
+                }
+                logger.warn("Discarding broken database connection");
+                connection.closeQuietly();
+                discarded.increment();
+            }
+            return new PooledConnection(DriverManager.getConnection(url, user, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private boolean isHealthy(PooledConnection connection) {
+        try {
+            if (connection.connection.isClosed()) {
+                return false;
+            }
+            if (System.nanoTime() - connection.releasedAt < validationIntervalNanos) {
+                return true;
+            }
+            return connection.connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection connection) {
+        try {
+            if (!connection.connection.getAutoCommit()) {
+                connection.connection.rollback();
+                connection.connection.setAutoCommit(true);
+            }
+            connection.releasedAt = System.nanoTime();
+            idle.offerFirst(connection);
+        } catch (SQLException e) {
+            logger.warn("Discarding database connection that could not be reset", e);
+            connection.closeQuietly();
+            discarded.increment();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void recordQuery(long nanos) {
+        queries.increment();
+        queryNanos.add(nanos);
+        maxQueryNanos.accumulate(nanos);
+    }
+
+    public void close() {
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.closeQuietly();
+        }
+    }
+
+    public void logStatistics() {
+        long borrowCount = borrows.sum();
+        long queryCount = queries.sum();
+        logger.info("Database pool: {} leases, {} in use, {} idle, {} discarded; wait avg {} ms, max {} ms; "
+                + "{} queries, avg {} ms, max {} ms",
+            borrowCount, maxSize - permits.availablePermits(), idle.size(), discarded.sum(),
+            borrowCount > 0 ? TimeUnit.NANOSECONDS.toMillis(waitNanos.sum() / borrowCount) : 0,
+            TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()),
+            queryCount,
+            queryCount > 0 ? TimeUnit.NANOSECONDS.toMillis(queryNanos.sum() / queryCount) : 0,
+            TimeUnit.NANOSECONDS.toMillis(maxQueryNanos.get()));
+    }
+
+    /**
+     * A leased connection. Statements from {@link #prepare(String)} are owned by the cache and must not be closed.
+     */
+    public class PooledConnection implements AutoCloseable {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements;
+        private long releasedAt = System.nanoTime();
+        // Set once the lease ends, so closing twice cannot return the connection twice
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > statementCacheSize) {
+                        closeStatement(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        public Connection getConnection() {
+            return connection;
+        }
+
+        public PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            } else {
+                // A batch that failed part-way leaves its rows on the statement
+                statement.clearParameters();
+                statement.clearBatch();
+            }
+            return statement;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(this);
+            }
+        }
+
+        private void closeStatement(PreparedStatement statement) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                logger.debug("Error closing cached statement", e);
+            }
+        }
+
+        private void closeQuietly() {
+            for (PreparedStatement statement : statements.values()) {
+                closeStatement(statement);
+            }
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.debug("Error closing database connection", e);
+            }
+        }
+    }
+}
@@ -4,126 +4,335 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Static database helpers backed by the shared {@link ConnectionPool}. Each call leases a
+ * connection for its own duration, unless the calling thread has begun a transaction, in which
+ * case every call on that thread runs on the transaction's connection until it is committed or
+ * rolled back.
+ */
 public class DatabaseUtil {
     private static final Logger logger = LoggerFactory.getLogger(DatabaseUtil.class);
-    private static Connection connection;
-    
-    static {
-        try {
-            String driver = ConfigUtil.getProperty("db.driver");
-            String url = ConfigUtil.getProperty("db.url");
-            String user = ConfigUtil.getProperty("db.user");
-            String password = ConfigUtil.getProperty("db.password");
-            
-            Class.forName(driver);
-            connection = DriverManager.getConnection(url, user, password);
-        } catch (Exception e) {
-            logger.error("Error initializing database connection", e);
-        }
-    }
-    
+    private static final ThreadLocal<ConnectionPool.PooledConnection> transaction = new ThreadLocal<>();
+    private static final int fetchSize = ConfigUtil.getIntProperty("db.fetch.size", 1000);
+    private static final int batchSize = ConfigUtil.getIntProperty("db.batch.size", 1000);
+
+    /**
+     * Receives each row of a streamed query.
+     */
+    public interface RowCallback {
+        void onRow(ResultRow row) throws SQLException;
+    }
+
+    private interface Work<T> {
+        T run(ConnectionPool.PooledConnection conn) throws SQLException;
+    }
+
+    private static <T> T withConnection(Work<T> work) throws SQLException {
+        ConnectionPool.PooledConnection current = transaction.get();
+        if (current != null) {
+            return work.run(current);
+        }
+        try (ConnectionPool.PooledConnection conn = ConnectionPool.getDefault().borrow()) {
+            return work.run(conn);
+        }
+    }
+
+    private static void bind(PreparedStatement pstmt, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            pstmt.setObject(i + 1, params[i]);
+        }
+    }
+
     public static List<Map<String, Object>> executeQuery(String query) {
         List<Map<String, Object>> results = new ArrayList<>();
-        
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
-            
-            int columnCount = rs.getMetaData().getColumnCount();
-            
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = rs.getMetaData().getColumnName(i);
-                    Object value = rs.getObject(i);
-                    row.put(columnName, value);
+        streamQuery(query, row -> results.add(row.toMap()));
+        return results;
+    }
+
+    /**
+     * Runs a query and hands each row to the callback as it is fetched, without holding the
+     * result in memory. Returns the number of rows read, or -1 if the query failed.
+     */
+    public static long streamQuery(String query, RowCallback callback, Object... params) {
+        try {
+            return withConnection(conn -> {
+                PreparedStatement pstmt = conn.prepare(query);
+                pstmt.setFetchSize(fetchSize);
+                bind(pstmt, params);
+                long count = 0;
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    ResultRow row = new ResultRow(rs);
+                    while (rs.next()) {
+                        callback.onRow(row);
+                        count++;
+                    }
                 }
-                results.add(row);
+                return count;
+            });
+        } catch (SQLException e) {
+            logger.error("Error streaming query", e);
+            return -1;
+        }
+    }
+
+    /**
+     * Runs a query and returns its rows as a lazily fetched stream. The stream holds a pooled
+     * connection until it is closed, so use it in try-with-resources. A failure while reading
+     * rows is thrown as an {@link IllegalStateException}.
+     */
+    public static Stream<Map<String, Object>> queryStream(String query, Object... params) {
+        ConnectionPool.PooledConnection current = transaction.get();
+        ConnectionPool.PooledConnection leased = null;
+        PreparedStatement pstmt = null;
+        try {
+            if (current == null) {
+                leased = ConnectionPool.getDefault().borrow();
+                current = leased;
             }
+            // A dedicated statement, since the result set outlives this call
+            pstmt = current.getConnection().prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(fetchSize);
+            bind(pstmt, params);
+            ResultSet rs = pstmt.executeQuery();
+            ResultRow row = new ResultRow(rs);
+
+            Spliterator<Map<String, Object>> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super Map<String, Object>> action) {
+                    try {
+                        if (!rs.next()) {
+                            return false;
+                        }
+                        action.accept(row.toMap());
+                        return true;
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("Error reading query results", e);
+                    }
+                }
+            };
+
+            PreparedStatement statement = pstmt;
+            ConnectionPool.PooledConnection owned = leased;
+            return StreamSupport.stream(rows, false).onClose(() -> {
+                closeQuietly(statement);
+                if (owned != null) {
+                    owned.close();
+                }
+            });
         } catch (SQLException e) {
-            logger.error("Error executing query", e);
+            logger.error("Error streaming query", e);
+            closeQuietly(pstmt);
+            if (leased != null) {
+                leased.close();
+            }
+            return Stream.empty();
         }
-        
-        return results;
     }
-    
+
+    private static void closeQuietly(PreparedStatement pstmt) {
+        if (pstmt != null) {
+            try {
+                pstmt.close();
+            } catch (SQLException e) {
+                logger.debug("Error closing statement", e);
+            }
+        }
+    }
+
+    /**
+     * Executes the statement once per parameter row using JDBC batches of db.batch.size.
+     * Outside a thread transaction the whole load runs in a transaction of its own, so it is
+     * committed once and rolled back entirely on failure. Returns the number of rows affected,
+     * or -1 if the load failed.
+     */
+    public static long executeBatch(String query, Iterable<Object[]> rows) {
+        return executeBatch(query, rows, batchSize);
+    }
+
+    public static long executeBatch(String query, Iterable<Object[]> rows, int batchSize) {
+        boolean ownTransaction = transaction.get() == null;
+        try {
+            return withConnection(conn -> {
+                Connection connection = conn.getConnection();
+                if (ownTransaction) {
+                    // Left uncommitted on failure, so the pool rolls it back when the connection is returned
+                    connection.setAutoCommit(false);
+                }
+                PreparedStatement pstmt = conn.prepare(query);
+                long affected = 0;
+                int pending = 0;
+                for (Object[] params : rows) {
+                    bind(pstmt, params);
+                    pstmt.addBatch();
+                    if (++pending >= batchSize) {
+                        affected += sum(pstmt.executeBatch());
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    affected += sum(pstmt.executeBatch());
+                }
+                if (ownTransaction) {
+                    connection.commit();
+                    connection.setAutoCommit(true);
+                }
+                return affected;
+            });
+        } catch (SQLException e) {
+            logger.error("Error executing batch update", e);
+            return -1;
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            // SUCCESS_NO_INFO (-2) counts as one row
+            total += count >= 0 ? count : (count == PreparedStatement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return total;
+    }
+
     public static int executeUpdate(String query) {
-        try (Statement stmt = connection.createStatement()) {
-            return stmt.executeUpdate(query);
+        try {
+            return withConnection(conn -> conn.prepare(query).executeUpdate());
         } catch (SQLException e) {
             logger.error("Error executing update", e);
             return -1;
         }
     }
-    
+
     public static int executeUpdate(String query, Object... params) {
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
-            for (int i = 0; i < params.length; i++) {
-                pstmt.setObject(i + 1, params[i]);
-            }
-            return pstmt.executeUpdate();
+        try {
+            return withConnection(conn -> {
+                PreparedStatement pstmt = conn.prepare(query);
+                bind(pstmt, params);
+                return pstmt.executeUpdate();
+            });
         } catch (SQLException e) {
             logger.error("Error executing prepared update", e);
             return -1;
         }
     }
-    
+
     public static Object executeScalar(String query) {
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
-            
-            if (rs.next()) {
-                return rs.getObject(1);
-            }
+        try {
+            return withConnection(conn -> {
+                try (ResultSet rs = conn.prepare(query).executeQuery()) {
+                    return rs.next() ? rs.getObject(1) : null;
+                }
+            });
         } catch (SQLException e) {
             logger.error("Error executing scalar query", e);
         }
-        
+
         return null;
     }
-    
+
+    /**
+     * Rolls back any transaction left open on this thread and closes the idle pooled connections.
+     */
     public static void closeConnection() {
-        if (connection != null) {
-            try {
-                connection.close();
-            } catch (SQLException e) {
-                logger.error("Error closing database connection", e);
-            }
+        if (transaction.get() != null) {
+            logger.warn("Closing connection with an open transaction; rolling back");
+            rollbackTransaction();
+        }
+        if (ConnectionPool.isDefaultInitialized()) {
+            ConnectionPool.getDefault().close();
         }
     }
-    
+
+    /**
+     * Starts a transaction bound to the calling thread.
+     */
     public static void beginTransaction() {
+        if (transaction.get() != null) {
+            logger.warn("Transaction already active on thread {}", Thread.currentThread().getName());
+            return;
+        }
         try {
-            connection.setAutoCommit(false);
+            ConnectionPool.PooledConnection conn = ConnectionPool.getDefault().borrow();
+            try {
+                conn.getConnection().setAutoCommit(false);
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
+            transaction.set(conn);
         } catch (SQLException e) {
             logger.error("Error beginning transaction", e);
         }
     }
-    
+
     public static void commitTransaction() {
+        ConnectionPool.PooledConnection conn = transaction.get();
+        if (conn == null) {
+            logger.warn("No transaction to commit on thread {}", Thread.currentThread().getName());
+            return;
+        }
         try {
-            connection.commit();
-            connection.setAutoCommit(true);
+            conn.getConnection().commit();
+            conn.getConnection().setAutoCommit(true);
         } catch (SQLException e) {
             logger.error("Error committing transaction", e);
+        } finally {
+            transaction.remove();
+            conn.close();
         }
     }
-    
+
     public static void rollbackTransaction() {
+        ConnectionPool.PooledConnection conn = transaction.get();
+        if (conn == null) {
+            logger.warn("No transaction to roll back on thread {}", Thread.currentThread().getName());
+            return;
+        }
         try {
-            connection.rollback();
-            connection.setAutoCommit(true);
+            conn.getConnection().rollback();
+            conn.getConnection().setAutoCommit(true);
         } catch (SQLException e) {
             logger.error("Error rolling back transaction", e);
+        } finally {
+            transaction.remove();
+            conn.close();
+        }
+    }
+
+    /**
+     * Runs the work in a transaction on the calling thread, committing if it completes and
+     * rolling back if it throws. Joins the thread's transaction if one is already open.
+     */
+    public static <T> T inTransaction(Callable<T> work) throws Exception {
+        if (transaction.get() != null) {
+            return work.call();
+        }
+        beginTransaction();
+        if (transaction.get() == null) {
+            throw new SQLException("Could not begin transaction");
+        }
+        boolean committed = false;
+        try {
+            T result = work.call();
+            commitTransaction();
+            committed = true;
+            return result;
+        } finally {
+            if (!committed && transaction.get() != null) {
+                rollbackTransaction();
+            }
         }
     }
-} 
\ No newline at end of file
+}
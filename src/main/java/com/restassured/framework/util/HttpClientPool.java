@@ -0,0 +1,205 @@
+package com.restassured.framework.util;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.DefaultedHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared keep-alive connection pool for every RestAssured request made by the framework.
+ * Sized and timed from application.properties; idle and expired connections are evicted
+ * in the background.
+ */
+public class HttpClientPool {
+    private static final Logger logger = LoggerFactory.getLogger(HttpClientPool.class);
+
+    private final TimedConnectionManager connectionManager;
+    private final RestAssuredConfig restAssuredConfig;
+    private final long keepAliveMillis;
+    private final int timeout;
+
+    private static class Holder {
+        private static final HttpClientPool INSTANCE = new HttpClientPool();
+    }
+
+    public static HttpClientPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private HttpClientPool() {
+        this.timeout = ConfigUtil.getIntProperty("api.timeout", 30000);
+        int maxTotal = ConfigUtil.getIntProperty("http.pool.max.total", 200);
+        int maxPerRoute = ConfigUtil.getIntProperty("http.pool.max.per.route", 50);
+        long idleTimeout = ConfigUtil.getLongProperty("http.pool.idle.timeout", 60000);
+        this.keepAliveMillis = ConfigUtil.getLongProperty("http.pool.keepalive", 30000);
+
+        connectionManager = new TimedConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+            .httpClientFactory(this::createHttpClient)
+            .reuseHttpClientInstance();
+        restAssuredConfig = RestAssuredConfig.config().httpClient(httpClientConfig);
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionInterval = Math.max(1000, idleTimeout / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+        }, evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+
+        logger.info("HTTP connection pool: max total {}, max per route {}, timeout {} ms, keep-alive {} ms",
+            maxTotal, maxPerRoute, timeout, keepAliveMillis);
+    }
+
+    private HttpClient createHttpClient() {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout(timeout)
+            .setSocketTimeout(timeout)
+            .setConnectionRequestTimeout(timeout)
+            .build();
+        CloseableHttpClient client = HttpClientBuilder.create()
+            .setConnectionManager(connectionManager)
+            .setConnectionManagerShared(true)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> {
+                long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return duration > 0 ? duration : keepAliveMillis;
+            })
+            .build();
+        return new ParamsHttpClient(client);
+    }
+
+    /**
+     * Config to pass to {@code RestAssured.given().config(...)} so the request uses the pool.
+     */
+    public RestAssuredConfig getRestAssuredConfig() {
+        return restAssuredConfig;
+    }
+
+    public PoolStats getStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    public long getLeaseCount() {
+        return connectionManager.leases.sum();
+    }
+
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(connectionManager.waitNanos.sum());
+    }
+
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(connectionManager.maxWaitNanos.get());
+    }
+
+    public void logStatistics() {
+        PoolStats stats = getStats();
+        long leases = getLeaseCount();
+        logger.info("HTTP pool: {} leases, {} leased now, {} idle, {} pending, max {}; wait avg {} ms, max {} ms",
+            leases, stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax(),
+            leases > 0 ? getTotalWaitMillis() / leases : 0, getMaxWaitMillis());
+    }
+
+    /**
+     * RestAssured still sets its config (cookie policy, redirects, per-request timeouts) as client
+     * params, which builder-made clients reject. This keeps them and lays them under each request's
+     * own params, where the builder-made client reads them.
+     */
+    private static class ParamsHttpClient extends CloseableHttpClient {
+        private final CloseableHttpClient delegate;
+        private final HttpParams params = new BasicHttpParams();
+
+        private ParamsHttpClient(CloseableHttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context)
+                throws IOException, ClientProtocolException {
+            request.setParams(new DefaultedHttpParams(request.getParams(), params));
+            return delegate.execute(target, request, context);
+        }
+
+        @Override
+        public HttpParams getParams() {
+            return params;
+        }
+
+        @Override
+        public ClientConnectionManager getConnectionManager() {
+            return delegate.getConnectionManager();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Pooling manager that records how long callers wait for the connections they get. Leases that
+     * time out or are cancelled are not counted, so they do not skew the averages.
+     */
+    private static class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+        private final LongAdder leases = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ConnectionRequest request = super.requestConnection(route, state);
+            return new ConnectionRequest() {
+                @Override
+                public HttpClientConnection get(long timeout, TimeUnit unit)
+                        throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    HttpClientConnection connection = request.get(timeout, unit);
+                    long waited = System.nanoTime() - start;
+                    leases.increment();
+                    waitNanos.add(waited);
+                    maxWaitNanos.accumulate(waited);
+                    return connection;
+                }
+
+                @Override
+                public boolean cancel() {
+                    return request.cancel();
+                }
+            };
+        }
+    }
+}
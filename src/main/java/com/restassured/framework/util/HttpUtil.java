@@ -36,6 +36,7 @@ public class HttpUtil {
         logger.debug("Executing {} request to {}", method, url);
         
         RequestSpecification request = RestAssured.given()
+            .config(HttpClientPool.getInstance().getRestAssuredConfig())
             .baseUri(ConfigUtil.getProperty("api.base.url"))
             .contentType(ContentType.JSON);
         
@@ -0,0 +1,77 @@
+package com.restassured.framework.util;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The current row of a streamed query. Column names are read from the result set metadata once
+ * per query; the same instance is handed to the callback for every row, so it is only valid
+ * until the callback returns. Use {@link #toMap()} to keep a copy.
+ */
+public class ResultRow {
+    private final ResultSet resultSet;
+    private final String[] columnNames;
+    private final Map<String, Integer> columnIndexes;
+
+    ResultRow(ResultSet resultSet) throws SQLException {
+        this.resultSet = resultSet;
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        this.columnNames = new String[metaData.getColumnCount()];
+        this.columnIndexes = new HashMap<>();
+        for (int i = 0; i < columnNames.length; i++) {
+            columnNames[i] = metaData.getColumnName(i + 1);
+            columnIndexes.putIfAbsent(columnNames[i].toUpperCase(), i + 1);
+        }
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    /**
+     * The name of a column, numbered from 1 as in JDBC.
+     */
+    public String getColumnName(int column) {
+        return columnNames[column - 1];
+    }
+
+    public Object getObject(int column) throws SQLException {
+        return resultSet.getObject(column);
+    }
+
+    public Object getObject(String columnName) throws SQLException {
+        return resultSet.getObject(indexOf(columnName));
+    }
+
+    public String getString(int column) throws SQLException {
+        return resultSet.getString(column);
+    }
+
+    public String getString(String columnName) throws SQLException {
+        return resultSet.getString(indexOf(columnName));
+    }
+
+    public long getLong(String columnName) throws SQLException {
+        return resultSet.getLong(indexOf(columnName));
+    }
+
+    public Map<String, Object> toMap() throws SQLException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < columnNames.length; i++) {
+            row.put(columnNames[i], resultSet.getObject(i + 1));
+        }
+        return row;
+    }
+
+    private int indexOf(String columnName) throws SQLException {
+        Integer index = columnIndexes.get(columnName.toUpperCase());
+        if (index == null) {
+            throw new SQLException("Unknown column: " + columnName);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,148 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.model.TestData;
+import com.restassured.framework.model.TestStep;
+import com.restassured.framework.model.TestSuite;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * The DOM and streaming .xlsx readers must build the same suite from the same workbook.
+ */
+public class ExcelDataReaderTest {
+    private File workbook;
+    private Locale defaultLocale;
+
+    @BeforeClass
+    public void writeWorkbook() throws IOException {
+        // Number and date formatting follow the default locale
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        System.setProperty("test.suite.cache.enabled", "false");
+        workbook = File.createTempFile("excel-reader-test-", ".xlsx");
+        workbook.deleteOnExit();
+
+        try (Workbook wb = new XSSFWorkbook()) {
+            Sheet testCases = wb.createSheet("TestCases");
+            row(testCases, 0, "TestCaseID", "TestCaseName", "Description", "Execute", "PreRequisite", "TestSteps");
+            row(testCases, 1, "TC_001", "Formats", "Cell formats", "Yes", "None", "Step_001");
+
+            Sheet testSteps = wb.createSheet("TestSteps");
+            row(testSteps, 0, "StepID", "APIName", "Method", "Endpoint", "Headers", "Body", "ExtractVars",
+                "ExpectedStatus", "Assertions", "SaveResponse");
+            Row step = row(testSteps, 1, "Step_001", "GetUser", "GET", "/api/users/1", "", "", "");
+            step.createCell(7).setCellValue(201);
+            CellStyle oneDecimal = wb.createCellStyle();
+            oneDecimal.setDataFormat(wb.createDataFormat().getFormat("0.0"));
+            Cell decimalStatus = row(testSteps, 2, "Step_002", "CreateUser", "POST", "/api/users", "", "", "")
+                .createCell(7);
+            decimalStatus.setCellValue(204);
+            decimalStatus.setCellStyle(oneDecimal);
+            row(testSteps, 3, "Step_003", "ListUsers", "GET", "/api/users", "", "", "", "");
+
+            Sheet testData = wb.createSheet("TestData");
+            row(testData, 0, "TestCaseID", "VarName", "Value");
+            CellStyle thousands = wb.createCellStyle();
+            thousands.setDataFormat(wb.createDataFormat().getFormat("#,##0"));
+            CellStyle date = wb.createCellStyle();
+            date.setDataFormat(wb.createDataFormat().getFormat("yyyy-mm-dd"));
+            Calendar calendar = Calendar.getInstance();
+            calendar.clear();
+            calendar.set(2024, Calendar.MARCH, 5);
+
+            row(testData, 1, "TC_001", "decimal").createCell(2).setCellValue(1.5);
+            row(testData, 2, "TC_001", "integer").createCell(2).setCellValue(42);
+            Cell grouped = row(testData, 3, "TC_001", "grouped").createCell(2);
+            grouped.setCellValue(1000);
+            grouped.setCellStyle(thousands);
+            Cell day = row(testData, 4, "TC_001", "date").createCell(2);
+            day.setCellValue(calendar.getTime());
+            day.setCellStyle(date);
+            row(testData, 5, "TC_001", "flag").createCell(2).setCellValue(true);
+            row(testData, 6, "TC_001", "sum").createCell(2).setCellFormula("1+2");
+            row(testData, 7, "TC_001", "joined").createCell(2).setCellFormula("CONCATENATE(\"a\",\"b\")");
+            row(testData, 8, "TC_001", "error").createCell(2).setCellFormula("1/0");
+            row(testData, 9, "TC_001", "text", "plain");
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+
+            try (OutputStream out = new FileOutputStream(workbook)) {
+                wb.write(out);
+            }
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreDefaults() {
+        Locale.setDefault(defaultLocale);
+        System.clearProperty("test.suite.cache.enabled");
+        System.clearProperty("test.excel.streaming.threshold");
+    }
+
+    @Test
+    public void streamingAndDomReadersAgree() throws IOException {
+        TestSuite dom = read(Long.MAX_VALUE);
+        TestSuite streamed = read(0);
+
+        Map<String, String> domValues = testDataValues(dom);
+        assertEquals(testDataValues(streamed), domValues);
+        assertEquals(domValues.get("decimal"), "1.5");
+        assertEquals(domValues.get("integer"), "42");
+        assertEquals(domValues.get("grouped"), "1,000");
+        assertEquals(domValues.get("date"), "2024-03-05");
+        assertEquals(domValues.get("flag"), "true");
+        assertEquals(domValues.get("sum"), "3");
+        assertEquals(domValues.get("joined"), "ab");
+        assertEquals(domValues.get("error"), "");
+        assertEquals(domValues.get("text"), "plain");
+
+        TestStep domStep = dom.getTestSteps().get("Step_001");
+        TestStep streamedStep = streamed.getTestSteps().get("Step_001");
+        assertEquals(domStep.getExpectedStatus(), 201);
+        assertEquals(streamedStep.getExpectedStatus(), domStep.getExpectedStatus());
+        assertEquals(streamedStep.getEndpoint(), domStep.getEndpoint());
+        assertEquals(dom.getTestSteps().get("Step_002").getExpectedStatus(), 204);
+        assertEquals(streamed.getTestSteps().get("Step_002").getExpectedStatus(), 204);
+        assertEquals(dom.getTestSteps().get("Step_003").getExpectedStatus(), 200);
+        assertEquals(streamed.getTestSteps().get("Step_003").getExpectedStatus(), 200);
+        assertEquals(streamed.getTestCases().get("TC_001").getTestSteps(), dom.getTestCases().get("TC_001").getTestSteps());
+    }
+
+    private TestSuite read(long streamingThreshold) throws IOException {
+        System.setProperty("test.excel.streaming.threshold", String.valueOf(streamingThreshold));
+        return new ExcelDataReader().readTestSuite(workbook);
+    }
+
+    private static Map<String, String> testDataValues(TestSuite testSuite) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (TestData data : testSuite.getTestData().get("TC_001")) {
+            values.put(data.getVarName(), data.getValue());
+        }
+        return values;
+    }
+
+    private static Row row(Sheet sheet, int index, String... values) {
+        Row row = sheet.createRow(index);
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+        return row;
+    }
+}